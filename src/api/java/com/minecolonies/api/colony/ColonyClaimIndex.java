@@ -0,0 +1,108 @@
+package com.minecolonies.api.colony;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server side index of the owning colony of every loaded chunk, so ownership lookups don't have to get the chunk and its capability.
+ * <p>
+ * The chunk capability updates it whenever the owner changes, chunks are added on load and dropped on unload.
+ */
+public final class ColonyClaimIndex
+{
+    /**
+     * Returned for chunks which are not indexed, because they are not loaded or on the client.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * Owning colony id per packed chunk position, per dimension.
+     */
+    private static final Map<RegistryKey<World>, Long2IntMap> owners = new HashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonyClaimIndex()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Set the owning colony of a loaded chunk.
+     *
+     * @param chunk    the chunk.
+     * @param colonyId the owning colony id, or the no colony id.
+     */
+    public static synchronized void setOwner(@NotNull final Chunk chunk, final int colonyId)
+    {
+        final World world = chunk.getLevel();
+        if (world == null || world.isClientSide)
+        {
+            return;
+        }
+
+        owners.computeIfAbsent(world.dimension(), key -> {
+            final Long2IntMap map = new Long2IntOpenHashMap();
+            map.defaultReturnValue(UNKNOWN);
+            return map;
+        }).put(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z), colonyId);
+    }
+
+    /**
+     * Drop a chunk which unloaded.
+     *
+     * @param world  the world of the chunk.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     */
+    public static synchronized void remove(@NotNull final World world, final int chunkX, final int chunkZ)
+    {
+        final Long2IntMap map = owners.get(world.dimension());
+        if (map != null && !world.isClientSide)
+        {
+            map.remove(ChunkPos.asLong(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Get the owning colony of a chunk.
+     *
+     * @param world  the world of the chunk.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the owning colony id, the no colony id, or {@link #UNKNOWN} if the chunk is not indexed.
+     */
+    public static synchronized int getOwner(@NotNull final World world, final int chunkX, final int chunkZ)
+    {
+        final Long2IntMap map = owners.get(world.dimension());
+        if (map == null || world.isClientSide)
+        {
+            return UNKNOWN;
+        }
+        return map.get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Drop all chunks of a world which unloaded.
+     *
+     * @param world the world.
+     */
+    public static synchronized void clear(@NotNull final World world)
+    {
+        if (!world.isClientSide)
+        {
+            owners.remove(world.dimension());
+        }
+    }
+}
@@ -355,15 +355,16 @@ public interface IColonyManager
     void handleColonyViewRemoveCitizenMessage(int colonyId, int citizenId, RegistryKey<World> dim);
 
     /**
-     * Returns result of {@link IColonyView#handleColonyBuildingViewMessage(BlockPos, PacketBuffer)} if {@link #getColonyView(int, RegistryKey)} gives a not-null result. If {@link
+     * Returns result of {@link IColonyView#handleColonyBuildingViewMessage(BlockPos, PacketBuffer, boolean)} if {@link #getColonyView(int, RegistryKey)} gives a not-null result. If {@link
      * #getColonyView(int, RegistryKey)} is null, returns null.
      *
      * @param colonyId   ID of the colony.
      * @param buildingId ID of the building.
      * @param buf        {@link PacketBuffer} with colony data.
+     * @param fullSync   if the buffer contains the whole building, else only its changed modules.
      * @param dim        the dimension.
      */
-    void handleColonyBuildingViewMessage(int colonyId, BlockPos buildingId, @NotNull PacketBuffer buf, RegistryKey<World> dim);
+    void handleColonyBuildingViewMessage(int colonyId, BlockPos buildingId, @NotNull PacketBuffer buf, boolean fullSync, RegistryKey<World> dim);
 
     /**
      * Returns result of {@link IColonyView#handleColonyViewRemoveBuildingMessage(BlockPos)} if {@link #getColonyView(int, RegistryKey)} gives a not-null result. If {@link
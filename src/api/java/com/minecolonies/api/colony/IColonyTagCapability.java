@@ -138,6 +138,7 @@ public interface IColonyTagCapability
             {
                 colony.addLoadedChunk(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z), chunk);
                 owningColony = id;
+                ColonyClaimIndex.setOwner(chunk, owningColony);
             }
             chunk.markUnsaved();
         }
@@ -161,6 +162,7 @@ public interface IColonyTagCapability
                 {
                     owningColony = NO_COLONY_ID;
                 }
+                ColonyClaimIndex.setOwner(chunk, owningColony);
             }
             chunk.markUnsaved();
         }
@@ -177,6 +179,7 @@ public interface IColonyTagCapability
             colonies.clear();
             owningColony = NO_COLONY_ID;
             claimingBuildings.clear();
+            ColonyClaimIndex.setOwner(chunk, owningColony);
             chunk.markUnsaved();
         }
 
@@ -234,6 +237,7 @@ public interface IColonyTagCapability
                         {
                             owningColony = colonies.iterator().next();
                         }
+                        ColonyClaimIndex.setOwner(chunk, owningColony);
                     }
                     else
                     {
@@ -275,6 +279,7 @@ public interface IColonyTagCapability
         public void setOwningColony(final int id, final Chunk chunk)
         {
             this.owningColony = id;
+            ColonyClaimIndex.setOwner(chunk, owningColony);
             chunk.markUnsaved();
         }
 
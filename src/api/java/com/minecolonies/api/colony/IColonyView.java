@@ -261,10 +261,11 @@ public interface IColonyView extends IColony
      *
      * @param buildingId location of the building.
      * @param buf        buffer containing ColonyBuilding information.
+     * @param fullSync   if the buffer contains the whole building, else only its changed modules.
      * @return null == no response.
      */
     @Nullable
-    IMessage handleColonyBuildingViewMessage(BlockPos buildingId, @NotNull PacketBuffer buf);
+    IMessage handleColonyBuildingViewMessage(BlockPos buildingId, @NotNull PacketBuffer buf, boolean fullSync);
 
     /**
      * Update a players permissions.
@@ -177,6 +177,18 @@ public interface IBuilding extends IBuildingContainer, IRequestResolverProvider,
     @Override
     void markDirty();
 
+    /**
+     * Marks the building dirty because one of its modules changed. As long as the building itself is not dirty, only the changed modules are synced to the client.
+     */
+    void markModulesDirty();
+
+    /**
+     * Check if only modules of the building changed since the last sync.
+     *
+     * @return true if a partial view update with {@link #serializeDirtyModulesToView(PacketBuffer)} is enough.
+     */
+    boolean hasOnlyDirtyModules();
+
     /**
      * Checks if this building have a work order.
      *
@@ -206,6 +218,13 @@ public interface IBuilding extends IBuildingContainer, IRequestResolverProvider,
      */
     void serializeToView(@NotNull PacketBuffer buf);
 
+    /**
+     * Serializes only the persistent modules which changed since the last sync, each prefixed by its module index.
+     *
+     * @param buf PacketBuffer to write to.
+     */
+    void serializeDirtyModulesToView(@NotNull PacketBuffer buf);
+
     /**
      * Set the custom building name of the building.
      *
@@ -1,5 +1,8 @@
 package com.minecolonies.api.colony.buildings;
 
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingInventoryIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -11,9 +14,11 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.common.util.LazyOptional;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Map;
 
 public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvider
 {
@@ -58,6 +63,31 @@ public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvi
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Get the aggregated content of the racks of the building, built on first use.
+     *
+     * @return the index.
+     */
+    BuildingInventoryIndex getInventoryIndex();
+
+    /**
+     * Called by the racks of the building when their content changed.
+     *
+     * @param pos     the position of the rack.
+     * @param content the new content per item variant, or null if the rack got unloaded or removed.
+     */
+    void updateRackContent(@NotNull BlockPos pos, @Nullable Map<ItemKey, ItemStorage> content);
+
+    /**
+     * Called by the racks of the building when the amount of a single item changed.
+     *
+     * @param pos     the position of the rack.
+     * @param key     the key of the changed item.
+     * @param storage the changed item.
+     * @param delta   the amount added, negative if removed.
+     */
+    void updateRackContent(@NotNull BlockPos pos, @NotNull ItemKey key, @NotNull ItemStorage storage, int delta);
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
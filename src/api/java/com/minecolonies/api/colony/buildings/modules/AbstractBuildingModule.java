@@ -23,7 +23,7 @@ public abstract class AbstractBuildingModule implements IBuildingModule
         this.isDirty = true;
         if (building != null)
         {
-            building.markDirty();
+            building.markModulesDirty();
         }
     }
 
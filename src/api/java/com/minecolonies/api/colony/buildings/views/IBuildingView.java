@@ -175,6 +175,13 @@ public interface IBuildingView extends IRequester
      */
     void deserialize(@NotNull PacketBuffer buf);
 
+    /**
+     * Read a partial update of this view, containing only the changed module views identified by their index.
+     *
+     * @param buf The buffer to read the modules from.
+     */
+    void deserializeModules(@NotNull PacketBuffer buf);
+
     Map<Integer, Collection<IToken<?>>> getOpenRequestsByCitizen();
 
     @SuppressWarnings(GENERIC_WILDCARD)
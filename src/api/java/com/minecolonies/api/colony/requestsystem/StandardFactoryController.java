@@ -15,6 +15,7 @@ import com.minecolonies.api.util.constant.Suppression;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.Tuple;
+import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,6 +30,7 @@ public final class StandardFactoryController implements IFactoryController
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     public static final String NBT_TYPE = "Type";
+    public static final String NBT_ID   = "Id";
     public static final String NBT_DATA = "Data";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
@@ -270,7 +272,8 @@ public final class StandardFactoryController implements IFactoryController
         final CompoundNBT compound = new CompoundNBT();
 
         final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
-        compound.putString(NBT_TYPE, object.getClass().getName());
+        //The serialization id replaces the class name, which used to be stored in every single compound.
+        compound.putShort(NBT_ID, factory.getSerializationId());
         compound.put(NBT_DATA, factory.serialize(this, object));
 
         return compound;
@@ -279,18 +282,31 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <OUTPUT> OUTPUT deserialize(@NotNull final CompoundNBT compound) throws IllegalArgumentException
     {
-        String className = compound.getString(NBT_TYPE);
-        className = processClassRenaming(className);
-
         final IFactory<?, OUTPUT> factory;
 
-        try
+        if (compound.contains(NBT_ID, Constants.NBT.TAG_SHORT))
         {
-            factory = getFactoryForOutput(className);
+            final short id = compound.getShort(NBT_ID);
+            factory = getFactoryForOutput(id);
+            if (factory == null)
+            {
+                throw new IllegalArgumentException("The given compound holds an unknown serialization id for this Controller: " + id);
+            }
         }
-        catch (final IllegalArgumentException e)
+        else
         {
-            throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+            //Legacy data, which holds the class name.
+            String className = compound.getString(NBT_TYPE);
+            className = processClassRenaming(className);
+
+            try
+            {
+                factory = getFactoryForOutput(className);
+            }
+            catch (final IllegalArgumentException e)
+            {
+                throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+            }
         }
 
         try
@@ -2,10 +2,55 @@ package com.minecolonies.api.colony.requestsystem.data;
 
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.Item;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
 
 /**
  * The KV-Store for the requests and their identities. Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Add a request to the store and its indexes. The map returned by {@link #getIdentities()} is read only, requests are added and removed through this store.
+     *
+     * @param request The request to add.
+     */
+    void addRequest(@NotNull IRequest<?> request);
+
+    /**
+     * Remove a request from the store and its indexes.
+     *
+     * @param token The token of the request to remove.
+     * @return The removed request, or null if none was stored.
+     */
+    IRequest<?> removeRequest(@NotNull IToken<?> token);
+
+    /**
+     * Get all requests made by a given requester.
+     *
+     * @param requesterId The id of the requester.
+     * @return A new collection with the requests of the requester.
+     */
+    @NotNull
+    Collection<IRequest<?>> getRequestsMadeByRequester(@NotNull IToken<?> requesterId);
+
+    /**
+     * Get all requests whose requestable is an instance of the given type.
+     *
+     * @param type The requestable type.
+     * @return A new collection with the requests.
+     */
+    @NotNull
+    Collection<IRequest<?>> getRequestsOfType(@NotNull Class<?> type);
+
+    /**
+     * Get all deliverable requests which could be fulfilled by a stack of the given item. Includes the deliverables which can't tell which items they match.
+     *
+     * @param item The item.
+     * @return A new collection with the requests.
+     */
+    @NotNull
+    Collection<IRequest<?>> getDeliverablesPossiblyMatching(@NotNull Item item);
 }
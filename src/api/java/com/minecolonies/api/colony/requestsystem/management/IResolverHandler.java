@@ -8,6 +8,8 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -80,6 +82,17 @@ public interface IResolverHandler
      */
     Collection<IToken<?>> getRequestsAssignedToResolver(IRequestResolver<?> resolver);
 
+    /**
+     * Method to get the resolvers which can be assigned a given request, ordered by priority.
+     * <p>
+     * The list is cached per requestable type, and is rebuilt after resolvers got registered or removed.
+     * </p>
+     *
+     * @param request The request to get the candidates for.
+     * @return An immutable list of resolvers.
+     */
+    List<IRequestResolver<?>> getResolverCandidates(IRequest<?> request);
+
     /**
      * Method to get a resolver from a given token.
      * <p>
@@ -164,6 +177,14 @@ public interface IResolverHandler
      */
     void onColonyUpdate(Predicate<IRequest<?>> shouldTriggerReassign);
 
+    /**
+     * Method used to reassign requests based on a predicate, limited to the given requests.
+     *
+     * @param affectedRequests      the tokens of the requests which may be affected, every other request is skipped.
+     * @param shouldTriggerReassign the predicate to determine whether a request should be reassigned
+     */
+    void onColonyUpdate(Set<IToken<?>> affectedRequests, Predicate<IRequest<?>> shouldTriggerReassign);
+
     /**
      * Check if a resolver is in the progress of being removed.
      * @param id the id of the resolver to check.
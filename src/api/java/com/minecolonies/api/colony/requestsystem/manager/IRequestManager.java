@@ -12,6 +12,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvid
 import com.minecolonies.api.colony.requestsystem.resolver.player.IPlayerRequestResolver;
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
@@ -176,6 +177,30 @@ public interface IRequestManager extends INBTSerializable<CompoundNBT>, ITickabl
      */
     void onColonyUpdate(@NotNull final Predicate<IRequest<?>> shouldTriggerReassign);
 
+    /**
+     * Method used to indicate that a colony has updated the availability of the given items. Only deliverable requests which could be fulfilled by one of the items, and their
+     * children, are tested against the predicate.
+     *
+     * @param items                 The items which changed.
+     * @param shouldTriggerReassign The predicate to determine if a request should be reassigned.
+     */
+    default void onColonyUpdateForItems(@NotNull final Collection<Item> items, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
+    {
+        onColonyUpdate(shouldTriggerReassign);
+    }
+
+    /**
+     * Method used to indicate that a colony has updated the resolving of the given requestable types. Only requests of the types, and their children, are tested against the
+     * predicate.
+     *
+     * @param types                 The requestable types which changed.
+     * @param shouldTriggerReassign The predicate to determine if a request should be reassigned.
+     */
+    default void onColonyUpdateForTypes(@NotNull final Collection<Class<? extends IRequestable>> types, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
+    {
+        onColonyUpdate(shouldTriggerReassign);
+    }
+
     /**
      * Get the player resolve.
      *
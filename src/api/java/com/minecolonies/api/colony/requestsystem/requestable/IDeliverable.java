@@ -1,7 +1,11 @@
 package com.minecolonies.api.colony.requestsystem.requestable;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
 
 /**
  * An {@link IDeliverable} is an Requestable that can be delivered.
@@ -52,4 +56,15 @@ public interface IDeliverable extends IRetryable
      * @return the deliverable.
      */
     IDeliverable copyWithCount(final int newCount);
+
+    /**
+     * Get the items a stack needs to be of to match this deliverable, used to look up requests by item.
+     *
+     * @return The items, or null when stacks of other items could match as well.
+     */
+    @Nullable
+    default Set<Item> getMatchingItems()
+    {
+        return null;
+    }
 }
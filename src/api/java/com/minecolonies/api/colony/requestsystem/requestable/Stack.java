@@ -7,10 +7,12 @@ import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
@@ -373,6 +375,13 @@ public class Stack implements IConcreteDeliverable
         return Lists.newArrayList(theStack);
     }
 
+    @Nullable
+    @Override
+    public Set<Item> getMatchingItems()
+    {
+        return matchOreDic ? null : Collections.singleton(theStack.getItem());
+    }
+
     @Override
     public Set<TypeToken<?>> getSuperClasses()
     {
@@ -5,11 +5,13 @@ import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -425,6 +427,13 @@ public class StackList implements IConcreteDeliverable, INonExhaustiveDeliverabl
         return theStacks;
     }
 
+    @Nullable
+    @Override
+    public Set<Item> getMatchingItems()
+    {
+        return matchOreDic ? null : theStacks.stream().map(ItemStack::getItem).collect(Collectors.toSet());
+    }
+
     @Override
     public Set<TypeToken<?>> getSuperClasses()
     {
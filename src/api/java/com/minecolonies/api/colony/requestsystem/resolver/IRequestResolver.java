@@ -11,6 +11,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -111,6 +112,21 @@ public interface IRequestResolver<R extends IRequestable> extends IRequester
         //Noop
     }
 
+    /**
+     * Called by manager given to indicate that a colony has updated their available items, for the given requests only.
+     *
+     * @param manager               The systems manager.
+     * @param shouldTriggerReassign The request assigned
+     * @param affectedRequests      The tokens of the requests which may be affected, other assigned requests can be skipped.
+     */
+    default void onColonyUpdate(
+      @NotNull final IRequestManager manager,
+      @NotNull final Predicate<IRequest<?>> shouldTriggerReassign,
+      @NotNull final Set<IToken<?>> affectedRequests)
+    {
+        onColonyUpdate(manager, shouldTriggerReassign);
+    }
+
     @Nullable
     default List<IRequest<?>> getFollowupRequestForCompletion(@NotNull IRequestManager manager, @NotNull IRequest<? extends R> completedRequest)
     {
@@ -146,6 +146,7 @@ public class ServerConfiguration extends AbstractConfiguration
 
     public final ForgeConfigSpec.IntValue pathfindingDebugVerbosity;
     public final ForgeConfigSpec.IntValue pathfindingMaxThreadCount;
+    public final ForgeConfigSpec.IntValue pathfindingMaxQueueSize;
     public final ForgeConfigSpec.IntValue minimumRailsToPath;
 
     /*  --------------------------------------------------------------------------------- *
@@ -485,6 +486,7 @@ public class ServerConfiguration extends AbstractConfiguration
         pathfindingDebugVerbosity = defineInteger(builder, "pathfindingdebugverbosity", 0, 0, 10);
         minimumRailsToPath = defineInteger(builder, "minimumrailstopath", 8, 5, 100);
         pathfindingMaxThreadCount = defineInteger(builder, "pathfindingmaxthreadcount", 2, 1, 10);
+        pathfindingMaxQueueSize = defineInteger(builder, "pathfindingmaxqueuesize", 500, 50, 10000);
 
         swapToCategory(builder, "requestSystem");
 
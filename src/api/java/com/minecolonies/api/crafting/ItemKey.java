@@ -0,0 +1,151 @@
+package com.minecolonies.api.crafting;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.CompoundNBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Canonical key of an item variant: item, damage and NBT, ignoring the stack size.
+ * <p>
+ * Keys are interned, so two stacks which compare equal with damage and NBT matched get the same instance, and equal keys can be compared by identity. The hash covers the
+ * whole variant and is computed once.
+ */
+public final class ItemKey
+{
+    /**
+     * Key of all empty stacks.
+     */
+    public static final ItemKey EMPTY = new ItemKey(Items.AIR, 0, null);
+
+    /**
+     * The interned keys, dropped once no longer referenced.
+     */
+    private static final Interner<ItemKey> INTERNER = Interners.newWeakInterner();
+
+    /**
+     * The item.
+     */
+    private final Item item;
+
+    /**
+     * The damage value.
+     */
+    private final int damage;
+
+    /**
+     * Copy of the NBT, null if the stack had none or an empty one.
+     */
+    @Nullable
+    private final CompoundNBT tag;
+
+    /**
+     * The precomputed hash.
+     */
+    private final int hash;
+
+    /**
+     * Create a new key, use {@link #of(ItemStack)} to get the interned instance.
+     *
+     * @param item   the item.
+     * @param damage the damage value.
+     * @param tag    the NBT, owned by the key.
+     */
+    private ItemKey(final Item item, final int damage, @Nullable final CompoundNBT tag)
+    {
+        this.item = item;
+        this.damage = damage;
+        this.tag = tag;
+        this.hash = 31 * (31 * item.hashCode() + damage) + (tag == null ? 0 : tag.hashCode());
+    }
+
+    /**
+     * Get the canonical key of a stack.
+     *
+     * @param stack the stack.
+     * @return the interned key, {@link #EMPTY} for empty stacks.
+     */
+    @NotNull
+    public static ItemKey of(@Nullable final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return EMPTY;
+        }
+
+        final CompoundNBT stackTag = stack.getTag();
+        return INTERNER.intern(new ItemKey(stack.getItem(), stack.getDamageValue(), stackTag == null || stackTag.isEmpty() ? null : stackTag.copy()));
+    }
+
+    /**
+     * Check if a stack is of this variant, without creating a key for it.
+     *
+     * @param stack the stack.
+     * @return true if item, damage and NBT match.
+     */
+    public boolean matches(@Nullable final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return this == EMPTY;
+        }
+
+        final CompoundNBT stackTag = stack.getTag();
+        return this != EMPTY && item == stack.getItem() && damage == stack.getDamageValue() && (stackTag == null || stackTag.isEmpty() ? tag == null : stackTag.equals(tag));
+    }
+
+    /**
+     * Getter for the item.
+     *
+     * @return the item.
+     */
+    @NotNull
+    public Item getItem()
+    {
+        return item;
+    }
+
+    /**
+     * Getter for the damage value.
+     *
+     * @return the damage value.
+     */
+    public int getDamageValue()
+    {
+        return damage;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        // Only reached while interning, interned keys are equal only to themselves.
+        if (!(o instanceof ItemKey))
+        {
+            return false;
+        }
+
+        final ItemKey that = (ItemKey) o;
+        return hash == that.hash && item == that.item && damage == that.damage && (tag == null ? that.tag == null : tag.equals(that.tag));
+    }
+
+    @Override
+    public String toString()
+    {
+        return item.getRegistryName() + ":" + damage + (tag == null ? "" : tag.toString());
+    }
+}
@@ -7,6 +7,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +47,12 @@ public class ItemStorage
      */
     private int amount;
 
+    /**
+     * The canonical key of the stack when it was last requested.
+     */
+    @Nullable
+    private ItemKey key;
+
     /**
      * Creates an instance of the storage.
      *
@@ -288,6 +295,21 @@ public class ItemStorage
         && this.shouldIgnoreNBTValue == that.shouldIgnoreNBTValue;
     }
 
+    /**
+     * Get the canonical key of the stored stack, ignoring the comparison flags. The stack may be changed by its owner, so the cached key is checked against it first.
+     *
+     * @return the interned key.
+     */
+    @NotNull
+    public ItemKey getKey()
+    {
+        if (key == null || !key.matches(stack))
+        {
+            key = ItemKey.of(stack);
+        }
+        return key;
+    }
+
     /**
      * Getter for the stack.
      *
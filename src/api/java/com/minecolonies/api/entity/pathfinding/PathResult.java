@@ -5,6 +5,7 @@ import net.minecraft.pathfinding.Path;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -171,6 +172,17 @@ public class PathResult<T extends Callable<Path>>
         }
     }
 
+    /**
+     * Completes the result with an already known path instead of queuing the job.
+     *
+     * @param knownPath the path reaching the destination.
+     */
+    public void startWithPath(final Path knownPath)
+    {
+        pathReachesDestination = true;
+        pathCalculation = CompletableFuture.completedFuture(knownPath);
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -0,0 +1,446 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Aggregated content of the racks of a building, so item queries don't have to visit every rack.
+ * <p>
+ * Built from the container list on first use, afterwards the racks report their changes themselves. Other containers, like chests, don't report changes and are only
+ * remembered by position, they still have to be checked directly.
+ */
+public class BuildingInventoryIndex
+{
+    /**
+     * Content per rack, as last reported.
+     */
+    private final Map<BlockPos, Object2IntMap<ItemKey>> contentByRack = new HashMap<>();
+
+    /**
+     * Per item, the racks holding each of its variants.
+     */
+    private final Map<Item, Map<ItemKey, Variant>> racksByItem = new HashMap<>();
+
+    /**
+     * All container positions of the building when the index was built.
+     */
+    private final Set<BlockPos> containers = new HashSet<>();
+
+    /**
+     * Containers which are not indexed racks: chests, and racks which were not loaded or don't report to the building.
+     */
+    private final Set<BlockPos> otherContainers = new HashSet<>();
+
+    /**
+     * If the index was built since the last invalidation.
+     */
+    private boolean valid = false;
+
+    /**
+     * Check if the index is built.
+     *
+     * @return true if so.
+     */
+    public boolean isValid()
+    {
+        return valid;
+    }
+
+    /**
+     * Drop the index, it is built again on the next use.
+     */
+    public void invalidate()
+    {
+        valid = false;
+        contentByRack.clear();
+        racksByItem.clear();
+        containers.clear();
+        otherContainers.clear();
+    }
+
+    /**
+     * Build the index from the containers of the building.
+     *
+     * @param world         the world of the building.
+     * @param buildingId    the position of the building.
+     * @param containerList the positions of all containers of the building.
+     */
+    public void rebuild(@NotNull final World world, @NotNull final BlockPos buildingId, @NotNull final Collection<BlockPos> containerList)
+    {
+        invalidate();
+        containers.addAll(containerList);
+        for (final BlockPos pos : containerList)
+        {
+            if (!WorldUtil.isBlockLoaded(world, pos))
+            {
+                otherContainers.add(pos);
+                continue;
+            }
+
+            final TileEntity entity = world.getBlockEntity(pos);
+            // Only racks which know their building report their changes.
+            if (entity instanceof TileEntityRack && buildingId.equals(((TileEntityRack) entity).getBuildingPos()))
+            {
+                addRack(pos, ((TileEntityRack) entity).getContentByKey());
+            }
+            else if (entity != null)
+            {
+                otherContainers.add(pos);
+            }
+        }
+        valid = true;
+    }
+
+    /**
+     * Replace the indexed content of a rack.
+     *
+     * @param pos     the position of the rack.
+     * @param content the current content per item variant, or null if the rack got unloaded or removed.
+     */
+    public void updateRack(@NotNull final BlockPos pos, @Nullable final Map<ItemKey, ItemStorage> content)
+    {
+        if (!valid || !containers.contains(pos))
+        {
+            return;
+        }
+
+        removeRack(pos);
+        if (content == null)
+        {
+            otherContainers.add(pos);
+        }
+        else
+        {
+            otherContainers.remove(pos);
+            addRack(pos, content);
+        }
+    }
+
+    /**
+     * Change the indexed amount of a single item in a rack.
+     *
+     * @param pos     the position of the rack.
+     * @param key     the key of the changed item.
+     * @param storage the changed item.
+     * @param delta   the amount added, negative if removed.
+     */
+    public void changeRack(@NotNull final BlockPos pos, @NotNull final ItemKey key, @NotNull final ItemStorage storage, final int delta)
+    {
+        final Object2IntMap<ItemKey> content = contentByRack.get(pos);
+        if (!valid || content == null)
+        {
+            return;
+        }
+
+        final int amount = content.getInt(key) + delta;
+        if (amount > 0)
+        {
+            content.put(key, amount);
+            getOrCreateVariant(key, storage).racks.put(pos, amount);
+            return;
+        }
+
+        content.removeInt(key);
+        removeFromVariant(key, pos);
+    }
+
+    /**
+     * Count the items matching a storage in all indexed racks, respecting its damage and NBT comparison.
+     *
+     * @param storage the storage to match.
+     * @return the count.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        final Map<ItemKey, Variant> variants = racksByItem.get(storage.getItem());
+        if (variants == null)
+        {
+            return 0;
+        }
+
+        if (isExact(storage))
+        {
+            final Variant variant = variants.get(storage.getKey());
+            return variant == null ? 0 : sum(variant.racks);
+        }
+
+        int count = 0;
+        for (final Variant variant : variants.values())
+        {
+            if (variant.storage.equals(storage))
+            {
+                count += sum(variant.racks);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the items matching a predicate in all indexed racks.
+     *
+     * @param predicate the predicate.
+     * @return the count.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map<ItemKey, Variant> variants : racksByItem.values())
+        {
+            for (final Variant variant : variants.values())
+            {
+                if (predicate.test(variant.storage.getItemStack()))
+                {
+                    count += sum(variant.racks);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the total amount per item variant matching a predicate in all indexed racks.
+     *
+     * @param predicate the predicate.
+     * @return the variants with their amount.
+     */
+    @NotNull
+    public Map<ItemStorage, Integer> getMatchingContent(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Map<ItemStorage, Integer> matching = new HashMap<>();
+        for (final Map<ItemKey, Variant> variants : racksByItem.values())
+        {
+            for (final Variant variant : variants.values())
+            {
+                if (predicate.test(variant.storage.getItemStack()))
+                {
+                    matching.put(variant.storage, sum(variant.racks));
+                }
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Get the indexed racks holding items matching a storage.
+     *
+     * @param storage the storage to match.
+     * @return the rack positions.
+     */
+    @NotNull
+    public Set<BlockPos> getRacksHolding(@NotNull final ItemStorage storage)
+    {
+        final Map<ItemKey, Variant> variants = racksByItem.get(storage.getItem());
+        if (variants == null)
+        {
+            return Collections.emptySet();
+        }
+
+        if (isExact(storage))
+        {
+            final Variant variant = variants.get(storage.getKey());
+            return variant == null ? Collections.emptySet() : new HashSet<>(variant.racks.keySet());
+        }
+
+        final Set<BlockPos> racks = new HashSet<>();
+        for (final Variant variant : variants.values())
+        {
+            if (variant.storage.equals(storage))
+            {
+                racks.addAll(variant.racks.keySet());
+            }
+        }
+        return racks;
+    }
+
+    /**
+     * Get the indexed racks holding items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the rack positions.
+     */
+    @NotNull
+    public Set<BlockPos> getRacksHolding(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> racks = new HashSet<>();
+        for (final Map<ItemKey, Variant> variants : racksByItem.values())
+        {
+            for (final Variant variant : variants.values())
+            {
+                if (predicate.test(variant.storage.getItemStack()))
+                {
+                    racks.addAll(variant.racks.keySet());
+                }
+            }
+        }
+        return racks;
+    }
+
+    /**
+     * Get the indexed rack positions.
+     *
+     * @return the positions.
+     */
+    @NotNull
+    public Set<BlockPos> getRacks()
+    {
+        return Collections.unmodifiableSet(contentByRack.keySet());
+    }
+
+    /**
+     * Get the containers which are not indexed racks and have to be checked directly.
+     *
+     * @return a copy of the positions, as loading their tile entities may update the index.
+     */
+    @NotNull
+    public List<BlockPos> getOtherContainers()
+    {
+        return new ArrayList<>(otherContainers);
+    }
+
+    /**
+     * Add the content of a rack.
+     *
+     * @param pos     the rack position.
+     * @param content the content per item variant.
+     */
+    private void addRack(final BlockPos pos, final Map<ItemKey, ItemStorage> content)
+    {
+        final Object2IntMap<ItemKey> rackContent = new Object2IntOpenHashMap<>(content.size());
+        for (final Map.Entry<ItemKey, ItemStorage> entry : content.entrySet())
+        {
+            final int amount = entry.getValue().getAmount();
+            rackContent.put(entry.getKey(), amount);
+            getOrCreateVariant(entry.getKey(), entry.getValue()).racks.put(pos, amount);
+        }
+        contentByRack.put(pos, rackContent);
+    }
+
+    /**
+     * Remove the content of a rack.
+     *
+     * @param pos the rack position.
+     */
+    private void removeRack(final BlockPos pos)
+    {
+        final Object2IntMap<ItemKey> content = contentByRack.remove(pos);
+        if (content == null)
+        {
+            return;
+        }
+
+        for (final ItemKey key : content.keySet())
+        {
+            removeFromVariant(key, pos);
+        }
+    }
+
+    /**
+     * Get the indexed variant of a key, adding it if missing.
+     *
+     * @param key     the key.
+     * @param storage a storage of the variant, its stack is used to match the variant against queries.
+     * @return the variant.
+     */
+    private Variant getOrCreateVariant(final ItemKey key, final ItemStorage storage)
+    {
+        return racksByItem.computeIfAbsent(key.getItem(), item -> new HashMap<>())
+                 .computeIfAbsent(key, k -> new Variant(new ItemStorage(storage.getItemStack(), 0, false)));
+    }
+
+    /**
+     * Remove a rack from an indexed variant, dropping the variant once no rack holds it.
+     *
+     * @param key the key of the variant.
+     * @param pos the rack position.
+     */
+    private void removeFromVariant(final ItemKey key, final BlockPos pos)
+    {
+        final Map<ItemKey, Variant> variants = racksByItem.get(key.getItem());
+        if (variants == null)
+        {
+            return;
+        }
+
+        final Variant variant = variants.get(key);
+        if (variant != null)
+        {
+            variant.racks.removeInt(pos);
+            if (variant.racks.isEmpty())
+            {
+                variants.remove(key);
+            }
+        }
+
+        if (variants.isEmpty())
+        {
+            racksByItem.remove(key.getItem());
+        }
+    }
+
+    /**
+     * Check if a storage only matches its own variant, so it can be looked up by key.
+     *
+     * @param storage the storage.
+     * @return true if damage and NBT are compared.
+     */
+    private static boolean isExact(final ItemStorage storage)
+    {
+        return !storage.ignoreDamageValue() && !storage.ignoreNBT() && !storage.getItemStack().isEmpty();
+    }
+
+    /**
+     * Sum the amounts of all racks.
+     *
+     * @param racks the amount per rack.
+     * @return the sum.
+     */
+    private static int sum(final Object2IntMap<BlockPos> racks)
+    {
+        int sum = 0;
+        for (final int amount : racks.values())
+        {
+            sum += amount;
+        }
+        return sum;
+    }
+
+    /**
+     * An indexed item variant.
+     */
+    private static class Variant
+    {
+        /**
+         * Storage of the variant, to match it against queries.
+         */
+        private final ItemStorage storage;
+
+        /**
+         * The amount per rack holding it.
+         */
+        private final Object2IntMap<BlockPos> racks = new Object2IntOpenHashMap<>();
+
+        /**
+         * Create a new variant.
+         *
+         * @param storage the storage of the variant.
+         */
+        private Variant(final ItemStorage storage)
+        {
+            this.storage = storage;
+        }
+    }
+}
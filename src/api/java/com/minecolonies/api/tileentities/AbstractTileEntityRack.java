@@ -1,5 +1,6 @@
 package com.minecolonies.api.tileentities;
 
+import com.google.common.collect.ImmutableSet;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
@@ -88,7 +89,7 @@ public abstract class AbstractTileEntityRack extends TileEntity implements IName
         @Override
         protected void onContentsChanged(final int slot)
         {
-            updateItemStorage();
+            updateItemStorage(slot);
             super.onContentsChanged(slot);
         }
 
@@ -147,7 +148,7 @@ public abstract class AbstractTileEntityRack extends TileEntity implements IName
 
                     if (inWarehouse)
                     {
-                        colony.getRequestManager().onColonyUpdate(request ->
+                        colony.getRequestManager().onColonyUpdateForItems(ImmutableSet.of(stack.getItem()), request ->
                                                                     request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(stack));
                     }
                     else
@@ -240,6 +241,16 @@ public abstract class AbstractTileEntityRack extends TileEntity implements IName
         this.buildingPos = pos;
     }
 
+    /**
+     * Get the building pos it belongs to.
+     *
+     * @return the pos of the building, or zero if none.
+     */
+    public BlockPos getBuildingPos()
+    {
+        return buildingPos;
+    }
+
     /**
      * Get the upgrade size.
      *
@@ -258,6 +269,16 @@ public abstract class AbstractTileEntityRack extends TileEntity implements IName
      */
     public abstract void updateItemStorage();
 
+    /**
+     * Updates the storage after a single slot changed.
+     *
+     * @param slot the changed slot.
+     */
+    public void updateItemStorage(final int slot)
+    {
+        updateItemStorage();
+    }
+
     /**
      * Update the blockState of the rack. Switch between connected, single, full and empty texture.
      */
@@ -84,6 +84,12 @@ public class TileEntityGrave extends AbstractTileEntityGrave
         }
     }
 
+    @Override
+    public void updateItemStorage(final int slot)
+    {
+        updateItemStorage();
+    }
+
     /**
      * Just do the content update.
      */
@@ -2,6 +2,10 @@ package com.minecolonies.api.tileentities;
 
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
@@ -33,6 +37,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -57,9 +62,19 @@ public class TileEntityRack extends AbstractTileEntityRack
     private byte version = 0;
 
     /**
-     * The content of the chest.
+     * The content of the chest, per item variant a storage holding the total amount.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Map<ItemKey, ItemStorage> content = new HashMap<>();
+
+    /**
+     * The variant of each slot as counted in the content, null for empty slots.
+     */
+    private ItemKey[] slotKey = new ItemKey[0];
+
+    /**
+     * The amount of each slot as counted in the content.
+     */
+    private int[] slotAmount = new int[0];
 
     /**
      * Size multiplier of the inventory. 0 = default value. 1 = 1*9 additional slots, and so on.
@@ -119,9 +134,7 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public boolean hasItemStack(final ItemStack stack, final int count, final boolean ignoreDamageValue)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue);
-
-        return content.getOrDefault(checkItem, 0) >= count;
+        return getCount(new ItemStorage(stack, ignoreDamageValue)) >= count;
     }
 
     @Override
@@ -136,31 +149,27 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         if (storage.ignoreDamageValue() || storage.ignoreNBT())
         {
-            if (!content.containsKey(storage))
-            {
-                return 0;
-            }
-
             int count = 0;
-            for (final Map.Entry<ItemStorage, Integer> contentStorage : content.entrySet())
+            for (final ItemStorage contentStorage : content.values())
             {
-                if (contentStorage.getKey().equals(storage))
+                if (contentStorage.equals(storage))
                 {
-                    count += contentStorage.getValue();
+                    count += contentStorage.getAmount();
                 }
             }
             return count;
         }
 
-        return content.getOrDefault(storage, 0);
+        final ItemStorage contentStorage = content.get(storage.getKey());
+        return contentStorage == null ? 0 : contentStorage.getAmount();
     }
 
     @Override
     public boolean hasItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final ItemStorage storage : content.values())
         {
-            if (itemStackSelectionPredicate.test(entry.getKey().getItemStack()))
+            if (itemStackSelectionPredicate.test(storage.getItemStack()))
             {
                 return true;
             }
@@ -172,14 +181,9 @@ public class TileEntityRack extends AbstractTileEntityRack
     public boolean hasSimilarStack(@NotNull final ItemStack stack)
     {
         final ItemStorage checkItem = new ItemStorage(stack, true, true);
-        if (content.containsKey(checkItem))
-        {
-            return true;
-        }
-
-        for (final ItemStorage storage : content.keySet())
+        for (final ItemStorage storage : content.values())
         {
-            if (checkItem.getPrimaryCreativeTabIndex() == storage.getPrimaryCreativeTabIndex())
+            if (storage.getItem() == checkItem.getItem() || checkItem.getPrimaryCreativeTabIndex() == storage.getPrimaryCreativeTabIndex())
             {
                 return true;
             }
@@ -191,11 +195,26 @@ public class TileEntityRack extends AbstractTileEntityRack
     /**
      * Gets the content of the Rack
      *
-     * @return the map of content.
+     * @return a new map with the amount of each item variant.
      */
     public Map<ItemStorage, Integer> getAllContent()
     {
-        return content;
+        final Map<ItemStorage, Integer> allContent = new HashMap<>(content.size());
+        for (final ItemStorage storage : content.values())
+        {
+            allContent.put(storage, storage.getAmount());
+        }
+        return allContent;
+    }
+
+    /**
+     * Gets the content of the Rack per item variant.
+     *
+     * @return an unmodifiable view of the content, each storage holding the total amount of its variant.
+     */
+    public Map<ItemKey, ItemStorage> getContentByKey()
+    {
+        return Collections.unmodifiableMap(content);
     }
 
     @Override
@@ -209,6 +228,7 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
 
         inventory = tempInventory;
+        updateContent();
         final BlockState state = level.getBlockState(worldPosition);
         level.sendBlockUpdated(worldPosition, state, state, 0x03);
         invalidateCap();
@@ -218,11 +238,11 @@ public class TileEntityRack extends AbstractTileEntityRack
     public int getItemCount(final Predicate<ItemStack> predicate)
     {
         int matched = 0;
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final ItemStorage storage : content.values())
         {
-            if (predicate.test(entry.getKey().getItemStack()))
+            if (predicate.test(storage.getItemStack()))
             {
-                matched += entry.getValue();
+                matched += storage.getAmount();
             }
         }
         return matched;
@@ -235,6 +255,7 @@ public class TileEntityRack extends AbstractTileEntityRack
         {
             final boolean empty = content.isEmpty();
             updateContent();
+            updateBuildingIndex(false);
 
             if ((empty && !content.isEmpty()) || !empty && content.isEmpty())
             {
@@ -244,6 +265,146 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
     }
 
+    @Override
+    public void updateItemStorage(final int slot)
+    {
+        if (level != null && !level.isClientSide)
+        {
+            if (slot < 0 || slot >= slotKey.length || slotKey.length != inventory.getSlots())
+            {
+                updateItemStorage();
+                return;
+            }
+
+            final boolean empty = content.isEmpty();
+            updateSlot(slot);
+
+            if ((empty && !content.isEmpty()) || !empty && content.isEmpty())
+            {
+                updateBlockState();
+            }
+            setChanged();
+        }
+    }
+
+    /**
+     * Apply the change of a single slot to the content.
+     *
+     * @param slot the changed slot.
+     */
+    private void updateSlot(final int slot)
+    {
+        final ItemStack stack = inventory.getStackInSlot(slot);
+        final ItemKey oldKey = slotKey[slot];
+        final int oldAmount = slotAmount[slot];
+        final int newAmount = ItemStackUtils.isEmpty(stack) ? 0 : ItemStackUtils.getSize(stack);
+
+        if (oldKey != null && newAmount > 0 && ItemStackUtils.compareItemStacksIgnoreStackSize(content.get(oldKey).getItemStack(), stack, true, true))
+        {
+            // Same item, only the amount changed.
+            slotAmount[slot] = newAmount;
+            changeContent(oldKey, stack, newAmount - oldAmount);
+            return;
+        }
+
+        if (oldKey != null)
+        {
+            changeContent(oldKey, stack, -oldAmount);
+            freeSlots++;
+        }
+
+        if (newAmount > 0)
+        {
+            final ItemKey newKey = ItemKey.of(stack);
+            slotKey[slot] = newKey;
+            slotAmount[slot] = newAmount;
+            changeContent(newKey, stack, newAmount);
+            freeSlots--;
+        }
+        else
+        {
+            slotKey[slot] = null;
+            slotAmount[slot] = 0;
+        }
+    }
+
+    /**
+     * Change the amount of a variant in the content, and report it to the building.
+     *
+     * @param key   the variant.
+     * @param stack the stack to copy if the variant is new to the content.
+     * @param delta the amount to add, negative to remove.
+     */
+    private void changeContent(final ItemKey key, final ItemStack stack, final int delta)
+    {
+        if (delta == 0)
+        {
+            return;
+        }
+
+        ItemStorage storage = content.get(key);
+        if (storage == null)
+        {
+            if (delta < 0)
+            {
+                return;
+            }
+            storage = new ItemStorage(stack.copy(), 0, false);
+            content.put(key, storage);
+        }
+
+        storage.setAmount(storage.getAmount() + delta);
+        if (storage.getAmount() <= 0)
+        {
+            content.remove(key);
+        }
+
+        final IBuilding building = getOwningBuilding();
+        if (building != null)
+        {
+            building.updateRackContent(worldPosition, key, storage, delta);
+        }
+    }
+
+    /**
+     * Report the content to the inventory index of the building the rack belongs to.
+     *
+     * @param removed true if the rack got removed or unloaded.
+     */
+    private void updateBuildingIndex(final boolean removed)
+    {
+        final IBuilding building = getOwningBuilding();
+        if (building != null)
+        {
+            building.updateRackContent(worldPosition, removed ? null : getContentByKey());
+        }
+    }
+
+    /**
+     * Get the building the rack belongs to, on the server.
+     *
+     * @return the building or null if none.
+     */
+    @Nullable
+    private IBuilding getOwningBuilding()
+    {
+        if (level == null || level.isClientSide || buildingPos == null || buildingPos.equals(BlockPos.ZERO))
+        {
+            return null;
+        }
+
+        // Look the building up through the colonies, the chunk of the building might not be loaded.
+        for (final IColony colony : IColonyManager.getInstance().getColonies(level))
+        {
+            final IBuilding building = colony.getBuildingManager().getBuilding(buildingPos);
+            if (building != null)
+            {
+                return building;
+            }
+        }
+        return null;
+    }
+
     /**
      * Just do the content update.
      */
@@ -251,6 +412,8 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         content.clear();
         freeSlots = 0;
+        slotKey = new ItemKey[inventory.getSlots()];
+        slotAmount = new int[inventory.getSlots()];
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
             final ItemStack stack = inventory.getStackInSlot(slot);
@@ -261,13 +424,12 @@ public class TileEntityRack extends AbstractTileEntityRack
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
-            {
-                amount += content.remove(storage);
-            }
-            content.put(storage, amount);
+            final ItemKey key = ItemKey.of(stack);
+            final int amount = ItemStackUtils.getSize(stack);
+            slotKey[slot] = key;
+            slotAmount[slot] = amount;
+            final ItemStorage storage = content.computeIfAbsent(key, k -> new ItemStorage(stack.copy(), 0, false));
+            storage.setAmount(storage.getAmount() + amount);
         }
     }
 
@@ -641,11 +803,26 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
     }
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        updateBuildingIndex(false);
+    }
+
+    @Override
+    public void onChunkUnloaded()
+    {
+        super.onChunkUnloaded();
+        updateBuildingIndex(true);
+    }
+
     @Override
     public void setRemoved()
     {
         super.setRemoved();
         invalidateCap();
+        updateBuildingIndex(true);
     }
 
     @Override
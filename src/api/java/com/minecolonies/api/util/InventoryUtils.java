@@ -5,6 +5,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingInventoryIndex;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.constant.IToolType;
@@ -820,10 +821,11 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
-        int totalCount = 0;
+        final BuildingInventoryIndex index = provider.getInventoryIndex();
+        int totalCount = index.getCount(stack);
         final World world = provider.getColony().getWorld();
 
-        for (final BlockPos pos : provider.getContainers())
+        for (final BlockPos pos : index.getOtherContainers())
         {
             if (WorldUtil.isBlockLoaded(world, pos))
             {
@@ -876,10 +878,11 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
-        int totalCount = 0;
+        final BuildingInventoryIndex index = provider.getInventoryIndex();
+        int totalCount = index.getCount(predicate);
         final World world = provider.getColony().getWorld();
 
-        for (final BlockPos pos : provider.getContainers())
+        for (final BlockPos pos : index.getOtherContainers())
         {
             if (WorldUtil.isBlockLoaded(world, pos))
             {
@@ -906,9 +909,10 @@ public class InventoryUtils
     {
         final World world = provider.getColony().getWorld();
 
-        final Map<ItemStorage, Integer> allMatching = new HashMap<>();
+        final BuildingInventoryIndex index = provider.getInventoryIndex();
+        final Map<ItemStorage, Integer> allMatching = index.getMatchingContent(predicate);
 
-        for (final BlockPos pos : provider.getContainers())
+        for (final BlockPos pos : index.getOtherContainers())
         {
             if (WorldUtil.isBlockLoaded(world, pos))
             {
@@ -25,7 +25,12 @@ public final class ColonyManagerConstants
     /**
      * The file name pattern of the minecolonies backup.
      */
-    public static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.zip";
+    public static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.manifest";
+
+    /**
+     * The folder holding the content addressed data of the backups.
+     */
+    public static final String FILENAME_BACKUP_BLOBS_PATH = "backupdata";
 
     /**
      * Printed text if world capability couldn't be found.
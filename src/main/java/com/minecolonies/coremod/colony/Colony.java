@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony;
 
 import com.google.common.collect.ImmutableList;
 import com.minecolonies.api.blocks.ModBlocks;
+import com.minecolonies.api.colony.ColonyClaimIndex;
 import com.minecolonies.api.colony.ColonyState;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
@@ -1192,6 +1193,12 @@ public class Colony implements IColony
             return false;
         }
 
+        final int indexedId = ColonyClaimIndex.getOwner(w, pos.getX() >> 4, pos.getZ() >> 4);
+        if (indexedId != ColonyClaimIndex.UNKNOWN)
+        {
+            return indexedId == this.getID();
+        }
+
         final Chunk chunk = w.getChunkAt(pos);
         final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
         return cap != null && cap.getOwningColony() == this.getID();
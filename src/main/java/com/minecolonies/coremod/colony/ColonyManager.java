@@ -14,6 +14,7 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
+import com.minecolonies.coremod.entity.pathfinding.ColonyPathCache;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveMessage;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
@@ -195,6 +196,7 @@ public final class ColonyManager implements IColonyManager
             }
 
             cap.deleteColony(id);
+            ColonyPathCache.removeCache(world, id);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayerEntity) player));
@@ -279,8 +281,7 @@ public final class ColonyManager implements IColonyManager
         {
             return null;
         }
-        final Chunk centralChunk = w.getChunkAt(pos);
-        final int id = centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        final int id = getOwningColonyId(w, pos);
         if (id == 0)
         {
             return null;
@@ -701,6 +702,7 @@ public final class ColonyManager implements IColonyManager
             {
                 BackUpHelper.backupColonyData();
             }
+            ColonyClaimIndex.clear(world);
         }
     }
 
@@ -791,12 +793,12 @@ public final class ColonyManager implements IColonyManager
     }
 
     @Override
-    public void handleColonyBuildingViewMessage(final int colonyId, final BlockPos buildingId, @NotNull final PacketBuffer buf, final RegistryKey<World> dim)
+    public void handleColonyBuildingViewMessage(final int colonyId, final BlockPos buildingId, @NotNull final PacketBuffer buf, final boolean fullSync, final RegistryKey<World> dim)
     {
         final IColonyView view = getColonyView(colonyId, dim);
         if (view != null)
         {
-            view.handleColonyBuildingViewMessage(buildingId, buf);
+            view.handleColonyBuildingViewMessage(buildingId, buf, fullSync);
         }
         else
         {
@@ -843,8 +845,24 @@ public final class ColonyManager implements IColonyManager
     @Override
     public boolean isCoordinateInAnyColony(@NotNull final World world, final BlockPos pos)
     {
-        final Chunk centralChunk = world.getChunkAt(pos);
-        return centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0) != 0;
+        return getOwningColonyId(world, pos) != 0;
+    }
+
+    /**
+     * Get the id of the colony owning the chunk of a position, from the claim index if the chunk is loaded.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the colony id or 0 if none.
+     */
+    private static int getOwningColonyId(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final int indexedId = ColonyClaimIndex.getOwner(world, pos.getX() >> 4, pos.getZ() >> 4);
+        if (indexedId != ColonyClaimIndex.UNKNOWN)
+        {
+            return indexedId;
+        }
+        return world.getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
     }
 
     @Override
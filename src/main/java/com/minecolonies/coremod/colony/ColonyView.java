@@ -29,6 +29,7 @@ import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.server.colony.ColonyFlagChangeMessage;
 import com.minecolonies.coremod.network.messages.server.colony.TownHallRenameMessage;
+import io.netty.buffer.Unpooled;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
@@ -51,6 +52,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_BANNER_PATTERNS;
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
@@ -66,6 +68,22 @@ public final class ColonyView implements IColonyView
      */
     private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
 
+    /**
+     * Sections of the network data, each one is only sent when it changed.
+     */
+    private static final int SECTION_GENERAL        = 0;
+    private static final int SECTION_FREE_BLOCKS    = 1;
+    private static final int SECTION_FREE_POSITIONS = 2;
+    private static final int SECTION_WAYPOINTS      = 3;
+    private static final int SECTION_REQUESTS       = 4;
+    private static final int SECTION_RAID_SPAWNS    = 5;
+    private static final int SECTION_FLAG           = 6;
+    private static final int SECTION_RELATIONS      = 7;
+    private static final int SECTION_RESEARCH       = 8;
+    private static final int SECTION_TICKETS        = 9;
+    private static final int SECTION_GRAVES         = 10;
+    public static final  int SECTION_COUNT          = 11;
+
     //  General Attributes
     private final int                            id;
     private final Map<Integer, IWorkOrderView>   workOrders  = new HashMap<>();
@@ -244,90 +262,167 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Encode the sections of the network data representing a ColonyView. Existing subscribers only receive the sections which changed since they were last sent.
      *
      * @param colony            Colony to write data about.
-     * @param buf               {@link PacketBuffer} to write data in.
      * @param hasNewSubscribers true if there is a new subscription.
+     * @return the encoded sections by section index, null for sections which are not sent this time.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull PacketBuffer buf, boolean hasNewSubscribers)
+    public static byte[][] serializeNetworkSections(@NotNull final Colony colony, final boolean hasNewSubscribers)
     {
-        //  General Attributes
-        buf.writeUtf(colony.getName());
-        buf.writeUtf(colony.getDimension().location().toString());
-        buf.writeBlockPos(colony.getCenter());
-        buf.writeBoolean(colony.isManualHiring());
-        //  Citizenry
-        buf.writeInt(colony.getCitizenManager().getMaxCitizens());
-        buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
+        final byte[][] sections = new byte[SECTION_COUNT][];
+        sections[SECTION_GENERAL] = encodeSection(buf -> writeGeneral(colony, buf));
 
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
-        {
-            buf.writeUtf(block.getRegistryName().toString());
-        }
-
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
-        {
-            buf.writeBlockPos(block);
-        }
-        buf.writeDouble(colony.getOverallHappiness());
-        buf.writeBoolean(colony.hasWarehouse());
+        sections[SECTION_FREE_BLOCKS] = encodeSection(buf -> {
+            buf.writeInt(colony.getFreeBlocks().size());
+            for (final Block block : colony.getFreeBlocks())
+            {
+                buf.writeUtf(block.getRegistryName().toString());
+            }
+        });
 
-        buf.writeInt(waypoints.size());
-        for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
-        {
-            buf.writeBlockPos(block.getKey());
-            buf.writeInt(Block.getId(block.getValue()));
-        }
+        sections[SECTION_FREE_POSITIONS] = encodeSection(buf -> {
+            buf.writeInt(colony.getFreePositions().size());
+            for (final BlockPos block : colony.getFreePositions())
+            {
+                buf.writeBlockPos(block);
+            }
+        });
 
-        buf.writeInt(colony.getLastContactInHours());
-        buf.writeBoolean(colony.isManualHousing());
-        buf.writeBoolean(colony.canMoveIn());
-        buf.writeUtf(colony.getTextureStyleId());
+        sections[SECTION_WAYPOINTS] = encodeSection(buf -> {
+            buf.writeInt(colony.getWayPoints().size());
+            for (final Map.Entry<BlockPos, BlockState> block : colony.getWayPoints().entrySet())
+            {
+                buf.writeBlockPos(block.getKey());
+                buf.writeInt(Block.getId(block.getValue()));
+            }
+        });
 
         //  Citizens are sent as a separate packet
 
         if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
         {
-            final int preSize = buf.writerIndex();
-            buf.writeBoolean(true);
-            colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+            sections[SECTION_REQUESTS] = encodeSection(buf -> colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf));
+            if (sections[SECTION_REQUESTS].length >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
             {
                 Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
             }
         }
-        else
+
+        sections[SECTION_RAID_SPAWNS] = encodeSection(buf -> {
+            buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
+            for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+            {
+                buf.writeBlockPos(block);
+            }
+        });
+
+        sections[SECTION_FLAG] = encodeSection(buf -> {
+            CompoundNBT flagNBT = new CompoundNBT();
+            flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
+            buf.writeNbt(flagNBT);
+        });
+
+        sections[SECTION_RELATIONS] = encodeSection(buf -> writeRelations(colony, buf));
+
+        sections[SECTION_RESEARCH] = encodeSection(buf -> {
+            final CompoundNBT treeTag = new CompoundNBT();
+            colony.getResearchManager().writeToNBT(treeTag);
+            buf.writeNbt(treeTag);
+        });
+
+        if (hasNewSubscribers || colony.isTicketedChunksDirty())
         {
-            buf.writeBoolean(false);
+            sections[SECTION_TICKETS] = encodeSection(buf -> {
+                buf.writeInt(colony.getTicketedChunks().size());
+                for (final long pos : colony.getTicketedChunks())
+                {
+                    buf.writeLong(pos);
+                }
+            });
         }
 
-        buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
-        for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+        sections[SECTION_GRAVES] = encodeSection(buf -> {
+            final CompoundNBT graveTag = new CompoundNBT();
+            colony.getGraveManager().write(graveTag);
+            buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
+        });
+
+        return sections;
+    }
+
+    /**
+     * Write the selected sections of the colony view data into a network packet.
+     *
+     * @param sections the encoded sections.
+     * @param mask     bit mask of the sections to write.
+     * @param buf      {@link PacketBuffer} to write data in.
+     */
+    public static void writeNetworkSections(@NotNull final byte[][] sections, final int mask, @NotNull final PacketBuffer buf)
+    {
+        buf.writeInt(mask);
+        for (int section = 0; section < SECTION_COUNT; section++)
         {
-            buf.writeBlockPos(block);
+            if ((mask & (1 << section)) != 0)
+            {
+                buf.writeByteArray(sections[section]);
+            }
         }
+    }
 
-        buf.writeInt(colony.getTeamColonyColor().ordinal());
-
-        CompoundNBT flagNBT = new CompoundNBT();
-        flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
-        buf.writeNbt(flagNBT);
+    /**
+     * Encode a single section into a byte array.
+     *
+     * @param writer the writer of the section.
+     * @return the bytes.
+     */
+    private static byte[] encodeSection(final Consumer<PacketBuffer> writer)
+    {
+        final PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        writer.accept(buf);
+        final byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        buf.release();
+        return bytes;
+    }
 
+    /**
+     * Write the general attributes of a colony.
+     *
+     * @param colony Colony to write data about.
+     * @param buf    {@link PacketBuffer} to write data in.
+     */
+    private static void writeGeneral(@NotNull final Colony colony, @NotNull final PacketBuffer buf)
+    {
+        buf.writeUtf(colony.getName());
+        buf.writeUtf(colony.getDimension().location().toString());
+        buf.writeBlockPos(colony.getCenter());
+        buf.writeBoolean(colony.isManualHiring());
+        //  Citizenry
+        buf.writeInt(colony.getCitizenManager().getMaxCitizens());
+        buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
+        buf.writeDouble(colony.getOverallHappiness());
+        buf.writeBoolean(colony.hasWarehouse());
+        buf.writeInt(colony.getLastContactInHours());
+        buf.writeBoolean(colony.isManualHousing());
+        buf.writeBoolean(colony.canMoveIn());
+        buf.writeUtf(colony.getTextureStyleId());
+        buf.writeInt(colony.getTeamColonyColor().ordinal());
         buf.writeBoolean(colony.getProgressManager().isPrintingProgress());
-
         buf.writeLong(colony.getMercenaryUseTime());
-
         buf.writeUtf(colony.getStyle());
         buf.writeBoolean(colony.getRaiderManager().isRaided());
         buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+    }
+
+    /**
+     * Write the allies and feuds of a colony.
+     *
+     * @param colony Colony to write data about.
+     * @param buf    {@link PacketBuffer} to write data in.
+     */
+    private static void writeRelations(@NotNull final Colony colony, @NotNull final PacketBuffer buf)
+    {
         // ToDo: rework ally system
         final List<IColony> allies = new ArrayList<>();
         for (final Player player : colony.getPermissions().getFilteredPlayers(Rank::isColonyManager))
@@ -379,27 +474,6 @@ public final class ColonyView implements IColonyView
             buf.writeInt(col.getID());
             buf.writeUtf(col.getDimension().location().toString());
         }
-
-        final CompoundNBT treeTag = new CompoundNBT();
-        colony.getResearchManager().writeToNBT(treeTag);
-        buf.writeNbt(treeTag);
-
-        if (hasNewSubscribers || colony.isTicketedChunksDirty())
-        {
-            buf.writeInt(colony.getTicketedChunks().size());
-            for (final long pos : colony.getTicketedChunks())
-            {
-                buf.writeLong(pos);
-            }
-        }
-        else
-        {
-            buf.writeInt(-1);
-        }
-
-        final CompoundNBT graveTag = new CompoundNBT();
-        colony.getGraveManager().write(graveTag);
-        buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
     }
 
     /**
@@ -746,7 +820,7 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate a ColonyView from the network data.
+     * Populate a ColonyView from the network data. A new subscription receives all sections, updates only carry the sections which changed.
      *
      * @param buf               {@link PacketBuffer} to read from.
      * @param isNewSubscription Whether this is a new subscription of not.
@@ -757,14 +831,6 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewMessage(@NotNull final PacketBuffer buf, @NotNull final World world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = buf.readUtf(32767);
-        dimensionId = RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
-        center = buf.readBlockPos();
-        manualHiring = buf.readBoolean();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
 
         if (isNewSubscription)
         {
@@ -773,98 +839,133 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
-        {
-            freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
-        }
-
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
+        final int mask = buf.readInt();
+        for (int section = 0; section < SECTION_COUNT; section++)
         {
-            freePositions.add(buf.readBlockPos());
-        }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
-
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
-        {
-            wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
-        }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-        this.moveIn = buf.readBoolean();
-        this.textureStyle = buf.readUtf(32767);
-
-        if (buf.readBoolean())
-        {
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
-        }
-
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
-        {
-            lastSpawnPoints.add(buf.readBlockPos());
+            if ((mask & (1 << section)) != 0)
+            {
+                final PacketBuffer sectionBuf = new PacketBuffer(Unpooled.wrappedBuffer(buf.readByteArray()));
+                readSection(section, sectionBuf);
+                sectionBuf.release();
+            }
         }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = TextFormatting.values()[buf.readInt()];
-        this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
-
-        this.printProgress = buf.readBoolean();
-
-        this.mercenaryLastUseTime = buf.readLong();
 
-        this.style = buf.readUtf(32767);
-
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
-
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
-
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
-        {
-            allies.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              buf.readBoolean(),
-              RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
-        }
+        return null;
+    }
 
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
+    /**
+     * Read a single section of the network data.
+     *
+     * @param section the section index.
+     * @param buf     {@link PacketBuffer} to read from.
+     */
+    private void readSection(final int section, @NotNull final PacketBuffer buf)
+    {
+        switch (section)
         {
-            feuds.add(new CompactColonyReference(buf.readUtf(32767),
-              buf.readBlockPos(),
-              buf.readInt(),
-              false,
-              RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
-        }
-
-        this.manager.readFromNBT(buf.readNbt());
+            case SECTION_GENERAL:
+                name = buf.readUtf(32767);
+                dimensionId = RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
+                center = buf.readBlockPos();
+                manualHiring = buf.readBoolean();
+                //  Citizenry
+                citizenCount = buf.readInt();
+                citizenCountWithEmptyGuardTowers = buf.readInt();
+                this.overallHappiness = buf.readDouble();
+                this.hasColonyWarehouse = buf.readBoolean();
+                this.lastContactInHours = buf.readInt();
+                this.manualHousing = buf.readBoolean();
+                this.moveIn = buf.readBoolean();
+                this.textureStyle = buf.readUtf(32767);
+                this.teamColonyColor = TextFormatting.values()[buf.readInt()];
+                this.printProgress = buf.readBoolean();
+                this.mercenaryLastUseTime = buf.readLong();
+                this.style = buf.readUtf(32767);
+                this.isUnderRaid = buf.readBoolean();
+                this.spiesEnabled = buf.readBoolean();
+                break;
+            case SECTION_FREE_BLOCKS:
+                freeBlocks.clear();
+                final int blockListSize = buf.readInt();
+                for (int i = 0; i < blockListSize; i++)
+                {
+                    freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
+                }
+                break;
+            case SECTION_FREE_POSITIONS:
+                freePositions.clear();
+                final int posListSize = buf.readInt();
+                for (int i = 0; i < posListSize; i++)
+                {
+                    freePositions.add(buf.readBlockPos());
+                }
+                break;
+            case SECTION_WAYPOINTS:
+                wayPoints.clear();
+                final int wayPointListSize = buf.readInt();
+                for (int i = 0; i < wayPointListSize; i++)
+                {
+                    wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
+                }
+                break;
+            case SECTION_REQUESTS:
+                this.requestManager = new StandardRequestManager(this);
+                this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+                break;
+            case SECTION_RAID_SPAWNS:
+                lastSpawnPoints.clear();
+                final int barbSpawnListSize = buf.readInt();
+                for (int i = 0; i < barbSpawnListSize; i++)
+                {
+                    lastSpawnPoints.add(buf.readBlockPos());
+                }
+                Collections.reverse(lastSpawnPoints);
+                break;
+            case SECTION_FLAG:
+                this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
+                break;
+            case SECTION_RELATIONS:
+                this.allies = new ArrayList<>();
+                this.feuds = new ArrayList<>();
+
+                final int noOfAllies = buf.readInt();
+                for (int i = 0; i < noOfAllies; i++)
+                {
+                    allies.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      buf.readBoolean(),
+                      RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+                }
 
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
-        {
-            ticketedChunks = new HashSet<>(ticketChunkCount);
-            for (int i = 0; i < ticketChunkCount; i++)
-            {
-                ticketedChunks.add(buf.readLong());
-            }
+                final int noOfFeuds = buf.readInt();
+                for (int i = 0; i < noOfFeuds; i++)
+                {
+                    feuds.add(new CompactColonyReference(buf.readUtf(32767),
+                      buf.readBlockPos(),
+                      buf.readInt(),
+                      false,
+                      RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+                }
+                break;
+            case SECTION_RESEARCH:
+                this.manager.readFromNBT(buf.readNbt());
+                break;
+            case SECTION_TICKETS:
+                final int ticketChunkCount = buf.readInt();
+                ticketedChunks = new HashSet<>(ticketChunkCount);
+                for (int i = 0; i < ticketChunkCount; i++)
+                {
+                    ticketedChunks.add(buf.readLong());
+                }
+                break;
+            case SECTION_GRAVES:
+                this.graveManager.read(buf.readNbt());
+                break;
+            default:
+                Log.getLogger().warn("Unknown colony view section: " + section);
+                break;
         }
-
-        this.graveManager.read(buf.readNbt());
-
-        return null;
     }
 
     /**
@@ -1008,13 +1109,22 @@ public final class ColonyView implements IColonyView
      *
      * @param buildingId location of the building.
      * @param buf        buffer containing ColonyBuilding information.
+     * @param fullSync   if the buffer contains the whole building, else only its changed modules.
      * @return null == no response.
      */
     @Override
     @Nullable
-    public IMessage handleColonyBuildingViewMessage(final BlockPos buildingId, @NotNull final PacketBuffer buf)
+    public IMessage handleColonyBuildingViewMessage(final BlockPos buildingId, @NotNull final PacketBuffer buf, final boolean fullSync)
     {
-        if (buildings.containsKey(buildingId))
+        if (!fullSync)
+        {
+            final IBuildingView building = buildings.get(buildingId);
+            if (building != null)
+            {
+                building.deserializeModules(buf);
+            }
+        }
+        else if (buildings.containsKey(buildingId))
         {
             //Read the string first to set up the buffer.
             buf.readUtf(32767);
@@ -57,6 +57,8 @@ import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper
 import com.minecolonies.coremod.entity.ai.citizen.deliveryman.EntityAIWorkDeliveryman;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import com.minecolonies.coremod.util.ColonyUtils;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.block.AirBlock;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -81,6 +83,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -158,6 +161,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
      */
     protected List<IBuildingModule> modules = new ArrayList<>();
 
+    /**
+     * Modules by the class they were looked up with, built on the first lookup and reset when a module is registered.
+     */
+    private final Map<Class<?>, List<? extends IBuildingModule>> modulesByClass = new ConcurrentHashMap<>();
+
     /**
      * Constructor for a AbstractBuilding.
      *
@@ -175,26 +183,17 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public boolean hasModule(final Class<? extends IBuildingModule> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return true;
-            }
-        }
-        return false;
+        return !getModules(clazz).isEmpty();
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getFirstModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
+        final List<T> matching = getModules(clazz);
+        if (!matching.isEmpty())
         {
-            if (clazz.isInstance(module))
-            {
-                return (T) module;
-            }
+            return matching.get(0);
         }
 
         throw new IllegalStateException("The module of class: " + clazz.toString() + "should never be null!");
@@ -204,44 +203,57 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public <T extends IBuildingModule> Optional<T> getFirstOptionalModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return Optional.of((T) module);
-            }
-        }
-        return Optional.empty();
+        final List<T> matching = getModules(clazz);
+        return matching.isEmpty() ? Optional.empty() : Optional.of(matching.get(0));
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getModuleMatching(final Class<T> clazz, final Predicate<? super T> modulePredicate)
     {
-        for (final IBuildingModule module : modules)
+        for (final T module : getModules(clazz))
         {
-            if (clazz.isInstance(module) && modulePredicate.test((T) module))
+            if (modulePredicate.test(module))
             {
-                return (T) module;
+                return module;
             }
         }
         throw new IllegalArgumentException("no matching module");
     }
 
+    /**
+     * Get all modules of a class, in registration order.
+     *
+     * @param clazz the class or interface of the modules.
+     * @param <T>   the module type.
+     * @return an immutable list, cached until a new module is registered.
+     */
     @NotNull
     @Override
     public <T extends IBuildingModule> List<T> getModules(final Class<T> clazz)
     {
-        return this.modules.stream()
-          .filter(clazz::isInstance)
-          .map(c -> (T) c)
-          .collect(Collectors.toList());
+        List<? extends IBuildingModule> matching = modulesByClass.get(clazz);
+        if (matching == null)
+        {
+            final ImmutableList.Builder<T> builder = ImmutableList.builder();
+            for (final IBuildingModule module : modules)
+            {
+                if (clazz.isInstance(module))
+                {
+                    builder.add(clazz.cast(module));
+                }
+            }
+            matching = builder.build();
+            modulesByClass.put(clazz, matching);
+        }
+        return (List<T>) matching;
     }
 
     @Override
     public void registerModule(@NotNull final IBuildingModule module)
     {
         this.modules.add(module);
+        modulesByClass.clear();
     }
 
     /**
@@ -542,6 +554,21 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         }
     }
 
+    @Override
+    public final void markModulesDirty()
+    {
+        if (colony != null)
+        {
+            colony.getBuildingManager().markBuildingsDirty();
+        }
+    }
+
+    @Override
+    public final boolean hasOnlyDirtyModules()
+    {
+        return !dirty && isDirty();
+    }
+
     @Override
     public final boolean isDirty()
     {
@@ -707,6 +734,27 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         getModules(IPersistentModule.class).forEach(module -> module.serializeToView(buf));
     }
 
+    @Override
+    public void serializeDirtyModulesToView(@NotNull final PacketBuffer buf)
+    {
+        final List<IPersistentModule> persistentModules = getModules(IPersistentModule.class);
+        final IntList dirtyIndices = new IntArrayList();
+        for (int i = 0; i < persistentModules.size(); i++)
+        {
+            if (persistentModules.get(i).checkDirty())
+            {
+                dirtyIndices.add(i);
+            }
+        }
+
+        buf.writeVarInt(dirtyIndices.size());
+        for (final int index : dirtyIndices)
+        {
+            buf.writeVarInt(index);
+            persistentModules.get(index).serializeToView(buf);
+        }
+    }
+
     /**
      * Regularly tick this building and check if we  got the minimum stock(like once a minute is still fine) - If not: Check if there is a request for this already. -- If not:
      * Create a request. - If so: Check if there is a request for this still. -- If so: cancel it.
@@ -4,6 +4,9 @@ import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingInventoryIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
@@ -49,6 +52,11 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     protected final Map<Predicate<ItemStack>, Tuple<Integer, Boolean>> keepX = new HashMap<>();
 
+    /**
+     * Aggregated content of the racks of the building.
+     */
+    private final BuildingInventoryIndex inventoryIndex = new BuildingInventoryIndex();
+
     /**
      * The tileEntity of the building.
      */
@@ -81,6 +89,7 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
             final CompoundNBT containerCompound = containerTagList.getCompound(i);
             containerList.add(NBTUtil.readBlockPos(containerCompound));
         }
+        inventoryIndex.invalidate();
         if (compound.getAllKeys().contains(TAG_PRIO))
         {
             this.unscaledPickUpPriority = compound.getInt(TAG_PRIO);
@@ -126,13 +135,19 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     @Override
     public void addContainerPosition(@NotNull final BlockPos pos)
     {
-        containerList.add(pos);
+        if (containerList.add(pos))
+        {
+            inventoryIndex.invalidate();
+        }
     }
 
     @Override
     public void removeContainerPosition(final BlockPos pos)
     {
-        containerList.remove(pos);
+        if (containerList.remove(pos))
+        {
+            inventoryIndex.invalidate();
+        }
     }
 
     @Override
@@ -143,6 +158,28 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
         return list;
     }
 
+    @Override
+    public BuildingInventoryIndex getInventoryIndex()
+    {
+        if (!inventoryIndex.isValid() && colony.getWorld() != null)
+        {
+            inventoryIndex.rebuild(colony.getWorld(), getID(), getContainers());
+        }
+        return inventoryIndex;
+    }
+
+    @Override
+    public void updateRackContent(@NotNull final BlockPos pos, @Nullable final Map<ItemKey, ItemStorage> content)
+    {
+        inventoryIndex.updateRack(pos, content);
+    }
+
+    @Override
+    public void updateRackContent(@NotNull final BlockPos pos, @NotNull final ItemKey key, @NotNull final ItemStorage storage, final int delta)
+    {
+        inventoryIndex.changeRack(pos, key, storage, delta);
+    }
+
     @Override
     public void registerBlockPosition(@NotNull final BlockState blockState, @NotNull final BlockPos pos, @NotNull final World world)
     {
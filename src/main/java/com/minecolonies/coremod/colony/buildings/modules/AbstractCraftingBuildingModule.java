@@ -91,6 +91,11 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
      */
     protected final List<IToken<?>> disabledRecipes = new ArrayList<>();
 
+    /**
+     * The recipes of the building per output variant, primary and alternate outputs, with a stack of the output. Built on first use.
+     */
+    private Map<ItemKey, Tuple<ItemStack, Set<IToken<?>>>> recipesByOutput = null;
+
     /**
      * The job entry that works at this module.
      */
@@ -229,6 +234,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 IColonyManager.getInstance().getRecipeManager().registerUse(token);
             }
         }
+        recipesByOutput = null;
 
         if (compound.getCompound(getId()).contains(TAG_DISABLED_RECIPES))
         {
@@ -401,7 +407,8 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
             if (recipeStorage != null)
             {
-                building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
+                building.getColony().getRequestManager().onColonyUpdateForItems(ImmutableSet.of(recipeStorage.getPrimaryOutput().getItem()),
+                  request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
             }
             return true;
         }
@@ -482,14 +489,16 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 if(duplicateFound == null)
                 {
                     addRecipeToList(recipeToken, true);
-                    building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
+                    building.getColony().getRequestManager().onColonyUpdateForItems(ImmutableSet.of(recipeStorage.getPrimaryOutput().getItem()),
+                      request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
                     markDirty();
                 }
                 else if((forceReplace || newRecipe.getMustExist()) && !(duplicateFound.equals(recipeToken)))
                 {
                     //We found the base recipe for a multi-recipe, replace it with the multi-recipe
                     replaceRecipe(duplicateFound, recipeToken);
-                    building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
+                    building.getColony().getRequestManager().onColonyUpdateForItems(ImmutableSet.of(recipeStorage.getPrimaryOutput().getItem()),
+                      request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
 
                     //Clean up old 'classic' recipes that the new multi-recipe replaces
                     final List<ItemStack> alternates = recipeStorage.getAlternateOutputs();
@@ -501,7 +510,8 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                             removeRecipe(token);
                         }
                     }
-                    building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && recipeStorage.getAlternateOutputs().stream().anyMatch(i -> ((IDeliverable) request.getRequest()).matches(i)));
+                    building.getColony().getRequestManager().onColonyUpdateForItems(recipeStorage.getAlternateOutputs().stream().map(ItemStack::getItem).collect(Collectors.toSet()),
+                      request -> request.getRequest() instanceof IDeliverable && recipeStorage.getAlternateOutputs().stream().anyMatch(i -> ((IDeliverable) request.getRequest()).matches(i)));
                     markDirty();
                 }
             }
@@ -520,6 +530,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     public void clearRecipes()
     {
         recipes.clear();
+        recipesByOutput = null;
     }
 
     @Override
@@ -590,15 +601,11 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     {
         IRecipeStorage foundRecipe = null;
         final HashMap<IRecipeStorage, Integer> candidates = new HashMap<>();
-        //Scan through and collect all possible recipes that could fulfill this, taking special note of the first one
-        for (final IToken<?> token : recipes)
+        //Collect all possible recipes that could fulfill this, taking special note of the first one
+        for (final IToken<?> token : getRecipesMatchingOutput(stackPredicate))
         {
-            if (disabledRecipes.contains(token))
-            {
-                continue;
-            }
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(stackPredicate::test)))
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
+            if (storage != null)
             {
                 if(foundRecipe == null)
                 {
@@ -628,6 +635,78 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         return foundRecipe;
     }
 
+    /**
+     * Get the enabled recipes with an output matching a predicate. The predicate is tested once per distinct output variant, not per recipe.
+     *
+     * @param stackPredicate the predicate to test the outputs with.
+     * @return the matching recipe tokens, in recipe order.
+     */
+    private List<IToken<?>> getRecipesMatchingOutput(final Predicate<ItemStack> stackPredicate)
+    {
+        final Set<IToken<?>> matching = new HashSet<>();
+        for (final Tuple<ItemStack, Set<IToken<?>>> output : getRecipesByOutput().values())
+        {
+            if (stackPredicate.test(output.getA()))
+            {
+                matching.addAll(output.getB());
+            }
+        }
+
+        if (matching.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        final List<IToken<?>> result = new ArrayList<>();
+        for (final IToken<?> token : recipes)
+        {
+            if (matching.contains(token) && !disabledRecipes.contains(token))
+            {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the recipes of the building per output variant, building it if needed.
+     *
+     * @return the recipes per output.
+     */
+    private Map<ItemKey, Tuple<ItemStack, Set<IToken<?>>>> getRecipesByOutput()
+    {
+        if (recipesByOutput != null)
+        {
+            return recipesByOutput;
+        }
+
+        final IRecipeManager recipeManager = IColonyManager.getInstance().getRecipeManager();
+        final Map<ItemKey, Tuple<ItemStack, Set<IToken<?>>>> outputs = new HashMap<>();
+        boolean complete = true;
+        for (final IToken<?> token : recipes)
+        {
+            final IRecipeStorage storage = recipeManager.getRecipe(token);
+            if (storage == null)
+            {
+                complete = false;
+                continue;
+            }
+
+            outputs.computeIfAbsent(ItemKey.of(storage.getPrimaryOutput()), key -> new Tuple<>(storage.getPrimaryOutput(), new HashSet<>())).getB().add(token);
+            for (final ItemStack alternate : storage.getAlternateOutputs())
+            {
+                outputs.computeIfAbsent(ItemKey.of(alternate), key -> new Tuple<>(alternate, new HashSet<>())).getB().add(token);
+            }
+        }
+
+        // Recipes the manager doesn't know yet might show up later, don't keep an incomplete view.
+        if (complete)
+        {
+            recipesByOutput = outputs;
+        }
+        return outputs;
+    }
+
     @Override
     public boolean holdsRecipe(final IToken<?> token)
     {
@@ -680,15 +759,10 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     @Override
     public IRecipeStorage getFirstFulfillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
     {
-        for (final IToken<?> token : recipes)
+        for (final IToken<?> token : getRecipesMatchingOutput(stackPredicate))
         {
-            if (disabledRecipes.contains(token))
-            {
-                continue;
-            }
-
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
+            if (storage != null)
             {
                 final Set<IItemHandler> handlers = new HashSet<>();
                 for (final ICitizenData workerEntity : building.getAllAssignedCitizen())
@@ -754,7 +828,8 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
             if (recipeStorage != null)
             {
-                building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
+                building.getColony().getRequestManager().onColonyUpdateForItems(ImmutableSet.of(recipeStorage.getPrimaryOutput().getItem()),
+                  request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
             }
         }
     }
@@ -767,6 +842,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
+            recipesByOutput = null;
             markDirty();
         }
     }
@@ -784,6 +860,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        recipesByOutput = null;
     }
 
     @Override
@@ -799,6 +876,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             {
                 recipes.add(token);
             }
+            recipesByOutput = null;
         }
     }
 
@@ -836,7 +914,8 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(key);
             if (recipeStorage != null)
             {
-                building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
+                building.getColony().getRequestManager().onColonyUpdateForItems(ImmutableSet.of(recipeStorage.getPrimaryOutput().getItem()),
+                  request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
             }
         }
         else
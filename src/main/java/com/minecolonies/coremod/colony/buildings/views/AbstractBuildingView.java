@@ -432,6 +432,22 @@ public abstract class AbstractBuildingView implements IBuildingView
         }
     }
 
+    @Override
+    public void deserializeModules(@NotNull final PacketBuffer buf)
+    {
+        final int count = buf.readVarInt();
+        for (int i = 0; i < count; i++)
+        {
+            final int index = buf.readVarInt();
+            if (index < 0 || index >= moduleViews.size())
+            {
+                Log.getLogger().error("Received update for unknown module " + index + " of building " + getID());
+                return;
+            }
+            moduleViews.get(index).deserialize(buf);
+        }
+    }
+
     private void loadRequestSystemFromNBT(final CompoundNBT compound)
     {
         this.rsDataStoreToken = StandardFactoryController.getInstance().deserialize(compound.getCompound(TAG_RS_BUILDING_DATASTORE));
@@ -163,7 +163,8 @@ public class RecipeStorageFactory implements IRecipeStorageFactory
         for (int i = 0; i < inputTagList.size(); ++i)
         {
             final CompoundNBT inputTag = inputTagList.getCompound(i);
-            if(inputTag.contains("Type")) //Check to see if it's something the factorycontroller can handle
+            //Check to see if it's something the factorycontroller can handle, either by serialization id or legacy class name.
+            if (inputTag.contains(StandardFactoryController.NBT_ID, Constants.NBT.TAG_SHORT) || inputTag.contains(StandardFactoryController.NBT_TYPE))
             {
                 input.add(StandardFactoryController.getInstance().deserialize(inputTag));
             }
@@ -31,12 +31,11 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TranslationTextComponent;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
 
 import static com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable.getPlayerActionPriority;
 import static com.minecolonies.api.util.constant.BuildingConstants.TAG_ONGOING;
@@ -56,6 +55,11 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     public static final double BONUS_SPEED_PER_LEVEL = 0.003;
 
+    /**
+     * Deliveries with the same source and a target at most this far from the first target are combined into one run.
+     */
+    private static final int RUN_STOP_DISTANCE = 24;
+
     /**
      * Old field for backwards compatibility.
      */
@@ -173,7 +177,8 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         {
             if (newState)
             {
-                getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof Delivery || request.getRequest() instanceof Pickup);
+                getColony().getRequestManager()
+                  .onColonyUpdateForTypes(ImmutableList.of(Delivery.class, Pickup.class), request -> request.getRequest() instanceof Delivery || request.getRequest() instanceof Pickup);
             }
             else
             {
@@ -204,36 +209,32 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     }
 
     /**
-     * Method used to add a request to the queue
+     * Method used to add a request to the queue. The requests it is queued in front of age by one step.
      *
-     * @param token The token of the requests to add.
+     * @param token          The token of the requests to add.
+     * @param insertionIndex The index to insert at, as returned by {@link #getScoreForDelivery(IRequest)}.
      */
     public void addRequest(@NotNull final IToken<?> token, final int insertionIndex)
     {
         final IRequestManager requestManager = getColony().getRequestManager();
         IRequest<? extends IDeliverymanRequestable> newRequest = (IRequest<? extends IDeliverymanRequestable>) (requestManager.getRequestForToken(token));
 
-        LinkedList<IToken<?>> taskQueue = getTaskQueueFromDataStore();
-
-        int offset = 0;
-        for (int i = insertionIndex; i < taskQueue.size(); i++)
+        final LinkedList<IToken<?>> taskQueue = getTaskQueueFromDataStore();
+        final ListIterator<IToken<?>> iterator = taskQueue.listIterator(MathHelper.clamp(insertionIndex, 0, taskQueue.size()));
+        iterator.add(token);
+        while (iterator.hasNext())
         {
-            final IToken theToken = taskQueue.get(i);
-            final IRequest<? extends IDeliverymanRequestable> request = (IRequest<? extends IDeliverymanRequestable>) (requestManager.getRequestForToken(theToken));
+            final IRequest<?> request = requestManager.getRequestForToken(iterator.next());
             if (request == null || request.getState() == RequestState.COMPLETED)
             {
-                taskQueue.remove(theToken);
-                i--;
-                offset--;
+                iterator.remove();
             }
-            else
+            else if (request.getRequest() instanceof IDeliverymanRequestable)
             {
-                request.getRequest().incrementPriorityDueToAging();
+                ((IDeliverymanRequestable) request.getRequest()).incrementPriorityDueToAging();
             }
         }
 
-        getTaskQueueFromDataStore().add(Math.max(0, insertionIndex + offset), token);
-
         if (newRequest instanceof StandardRequests.PickupRequest && newRequest.getRequest().getPriority() == getPlayerActionPriority(true))
         {
             getCitizen().getEntity().ifPresent(e -> e.getCitizenChatHandler().sendLocalizedChat(COM_MINECOLONIES_COREMOD_ENTITY_DELIVERYMAN_FORCEPICKUP));
@@ -281,9 +282,25 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             }
             else
             {
+                final BlockPos target = ((Delivery) request.getRequest()).getTarget().getInDimensionLocation();
+                IToken<?> nextStop = null;
+                double nextStopDistance = Double.MAX_VALUE;
                 for (final IToken<?> token : new ArrayList<>(getDataStore().getOngoingDeliveries()))
                 {
                     final IRequest<?> req = getColony().getRequestManager().getRequestForToken(token);
+                    if (successful && req != null && req.getRequest() instanceof Delivery && !token.equals(current)
+                          && !((Delivery) req.getRequest()).getTarget().getInDimensionLocation().equals(target))
+                    {
+                        // Other stop of the same run, stays ongoing.
+                        final double distance = BlockPosUtil.getDistance(target, ((Delivery) req.getRequest()).getTarget().getInDimensionLocation());
+                        if (distance < nextStopDistance)
+                        {
+                            nextStop = token;
+                            nextStopDistance = distance;
+                        }
+                        continue;
+                    }
+
                     if (req != null && req.getState() == RequestState.IN_PROGRESS)
                     {
                         getColony().getRequestManager().updateRequestState(req.getId(), successful ? RequestState.RESOLVED : RequestState.FAILED);
@@ -291,12 +308,23 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                     getTaskQueueFromDataStore().remove(token);
                     getDataStore().getOngoingDeliveries().remove(token);
                 }
+
+                if (nextStop != null)
+                {
+                    // Continue the run at the closest remaining stop.
+                    getTaskQueueFromDataStore().remove(nextStop);
+                    getTaskQueueFromDataStore().addFirst(nextStop);
+                }
             }
         }
         else if (request.getRequest() instanceof Pickup)
         {
             getTaskQueueFromDataStore().remove(request.getId());
             getColony().getRequestManager().updateRequestState(current, successful ? RequestState.RESOLVED : RequestState.FAILED);
+            if (successful)
+            {
+                promoteNearbyPickup(request.getRequester().getLocation().getInDimensionLocation());
+            }
         }
         else
         {
@@ -312,6 +340,49 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         getCitizen().getWorkBuilding().markDirty();
     }
 
+    /**
+     * Move the closest queued pickup near a building to the front of the queue, so pickups close to each other are done in one run before returning to the warehouse.
+     *
+     * @param pos the position of the building the last pickup was done at.
+     */
+    private void promoteNearbyPickup(final BlockPos pos)
+    {
+        final LinkedList<IToken<?>> taskQueue = getTaskQueueFromDataStore();
+        if (taskQueue.isEmpty())
+        {
+            return;
+        }
+
+        final IRequest<?> head = getColony().getRequestManager().getRequestForToken(taskQueue.getFirst());
+        if (head != null && head.getRequest() instanceof IDeliverymanRequestable
+              && ((IDeliverymanRequestable) head.getRequest()).getPriority() >= getPlayerActionPriority(true))
+        {
+            return;
+        }
+
+        IToken<?> closest = null;
+        double closestDistance = RUN_STOP_DISTANCE;
+        for (final IToken<?> token : taskQueue)
+        {
+            final IRequest<?> request = getColony().getRequestManager().getRequestForToken(token);
+            if (request != null && request.getRequest() instanceof Pickup)
+            {
+                final double distance = BlockPosUtil.getDistance(pos, request.getRequester().getLocation().getInDimensionLocation());
+                if (distance <= closestDistance)
+                {
+                    closest = token;
+                    closestDistance = distance;
+                }
+            }
+        }
+
+        if (closest != null && !closest.equals(taskQueue.getFirst()))
+        {
+            taskQueue.remove(closest);
+            taskQueue.addFirst(closest);
+        }
+    }
+
     /**
      * Called when a task that is being scheduled is being canceled.
      *
@@ -407,19 +478,28 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     private boolean haveTasksSameSourceAndDest(@NotNull final Delivery requestA, @NotNull final Delivery requestB)
     {
-        if (requestA.getTarget().equals(requestB.getTarget()))
+        return requestA.getTarget().equals(requestB.getTarget()) && haveTasksSameSource(requestA, requestB);
+    }
+
+    /**
+     * Check if two deliveries have the same source, or both are taken from the same warehouse.
+     *
+     * @param requestA the first request.
+     * @param requestB the second request.
+     * @return true if so.
+     */
+    private boolean haveTasksSameSource(@NotNull final Delivery requestA, @NotNull final Delivery requestB)
+    {
+        if (requestA.getStart().equals(requestB.getStart()))
         {
-            if (requestA.getStart().equals(requestB.getStart()))
+            return true;
+        }
+        for (final IWareHouse wareHouse : getColony().getBuildingManager().getWareHouses())
+        {
+            if (wareHouse.hasContainerPosition(requestA.getStart().getInDimensionLocation()) && wareHouse.hasContainerPosition(requestB.getStart().getInDimensionLocation()))
             {
                 return true;
             }
-            for (final IWareHouse wareHouse : getColony().getBuildingManager().getWareHouses())
-            {
-                if (wareHouse.hasContainerPosition(requestA.getStart().getInDimensionLocation()) && wareHouse.hasContainerPosition(requestB.getStart().getInDimensionLocation()))
-                {
-                    return true;
-                }
-            }
         }
         return false;
     }
@@ -454,7 +534,52 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     }
 
     /**
-     * Calculates a score an position for a delivery, the bigger the score the worse the request fits.
+     * Plan a delivery run starting with a request: the queued deliveries with the same source whose target is close to the target of the request. Deliveries to the same
+     * target come first, the others by distance, so the courier can pick them up together and drop them off stop by stop.
+     *
+     * @param request the first request of the run.
+     * @return the requests of the run, starting with the given one.
+     */
+    public List<IRequest<? extends Delivery>> getDeliveryRun(final IRequest<? extends Delivery> request)
+    {
+        final Delivery delivery = request.getRequest();
+        final BlockPos target = delivery.getTarget().getInDimensionLocation();
+        final List<Tuple<Double, IRequest<? extends Delivery>>> stops = new ArrayList<>();
+        for (final IToken<?> requestToken : getTaskQueueFromDataStore())
+        {
+            if (requestToken.equals(request.getId()))
+            {
+                continue;
+            }
+
+            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestToken);
+            if (compareRequest != null && compareRequest.getRequest() instanceof Delivery)
+            {
+                final Delivery current = (Delivery) compareRequest.getRequest();
+                if (current.getTarget().getDimension().equals(delivery.getTarget().getDimension()) && haveTasksSameSource(current, delivery))
+                {
+                    final double distance = BlockPosUtil.getDistance(target, current.getTarget().getInDimensionLocation());
+                    if (distance <= RUN_STOP_DISTANCE)
+                    {
+                        stops.add(new Tuple<>(distance, (IRequest<? extends Delivery>) compareRequest));
+                    }
+                }
+            }
+        }
+
+        stops.sort(Comparator.comparingDouble(stop -> stop.getA()));
+        final List<IRequest<? extends Delivery>> run = new ArrayList<>(stops.size() + 1);
+        run.add(request);
+        for (final Tuple<Double, IRequest<? extends Delivery>> stop : stops)
+        {
+            run.add(stop.getB());
+        }
+        return run;
+    }
+
+    /**
+     * Calculates a score an position for a delivery, the bigger the score the worse the request fits. Drops finished requests from the queue on the way, so the returned index
+     * is valid for {@link #addRequest(IToken, int)}.
      *
      * @param newRequest to check
      * @return tuple of score and index to place at.
@@ -462,7 +587,18 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     @NotNull
     public Tuple<Double, Integer> getScoreForDelivery(final IRequest<?> newRequest)
     {
-        final List<IToken<?>> requestTokens = getTaskQueueFromDataStore();
+        final LinkedList<IToken<?>> requestTokens = getTaskQueueFromDataStore();
+        final List<IRequest<?>> queuedRequests = new ArrayList<>(requestTokens.size());
+        for (final Iterator<IToken<?>> iterator = requestTokens.iterator(); iterator.hasNext(); )
+        {
+            final IRequest<?> queuedRequest = getColony().getRequestManager().getRequestForToken(iterator.next());
+            if (queuedRequest == null || queuedRequest.getState() == RequestState.COMPLETED)
+            {
+                iterator.remove();
+                continue;
+            }
+            queuedRequests.add(queuedRequest);
+        }
 
         double totalScore = 10000;
         int bestRequestIndex = Math.max(0, requestTokens.size());
@@ -478,14 +614,9 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             totalScore -= ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority();
         }
 
-        for (int i = 0; i < requestTokens.size(); i++)
+        for (int i = 0; i < queuedRequests.size(); i++)
         {
-            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestTokens.get(i));
-            if (compareRequest == null)
-            {
-                continue;
-            }
-
+            final IRequest<?> compareRequest = queuedRequests.get(i);
             if (compareRequest.getRequest() instanceof AbstractDeliverymanRequestable)
             {
                 double score = getScoreOfRequestComparedTo(newRequest, compareRequest, i);
@@ -528,7 +659,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         score += getPickUpRequestScore(source, comparing);
 
         // Worse score the more requests we have to overtake
-        score += getTaskQueue().size() - comparingIndex;
+        score += getTaskQueueFromDataStore().size() - comparingIndex;
 
         return score;
     }
@@ -666,6 +797,16 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         getDataStore().getOngoingDeliveries().add(requestToken);
     }
 
+    /**
+     * Check if a delivery is part of the ongoing run, so its items were picked up already.
+     * @param requestToken the token of the request.
+     * @return true if so.
+     */
+    public boolean isConcurrentDelivery(final IToken<?> requestToken)
+    {
+        return getDataStore().getOngoingDeliveries().contains(requestToken);
+    }
+
     /**
      * Remove a concurrent delivery that is going on.
      * @param requestToken the token of the request.
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.managers;
 
 import com.ldtteam.structurize.management.Structures;
 import com.minecolonies.api.colony.managers.interfaces.IColonyPackageManager;
+import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.coremod.Network;
@@ -18,10 +19,7 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_STATE_INTERVAL;
 import static com.minecolonies.api.util.constant.Constants.TICKS_HOUR;
@@ -64,6 +62,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private final Colony colony;
 
+    /**
+     * The colony view sections as last sent to the close subscribers.
+     */
+    private final byte[][] lastSentViewSections = new byte[ColonyView.SECTION_COUNT][];
+
     /**
      * Creates the ColonyPackageManager for a colony.
      *
@@ -171,16 +174,38 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         if (isDirty || !newSubscribers.isEmpty())
         {
-            final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
-            ColonyView.serializeNetworkData(colony, colonyPacketBuffer, !newSubscribers.isEmpty());
-            final Set<ServerPlayerEntity> players = new HashSet<>();
-            if (isDirty)
+            final byte[][] sections = ColonyView.serializeNetworkSections(colony, !newSubscribers.isEmpty());
+            int allSections = 0;
+            int changedSections = 0;
+            for (int section = 0; section < sections.length; section++)
             {
-                players.addAll(closeSubscribers);
+                if (sections[section] != null)
+                {
+                    allSections |= 1 << section;
+                    if (!Arrays.equals(sections[section], lastSentViewSections[section]))
+                    {
+                        changedSections |= 1 << section;
+                    }
+                    lastSentViewSections[section] = sections[section];
+                }
             }
-            players.addAll(newSubscribers);
 
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, colonyPacketBuffer, newSubscribers.contains(player)), player));
+            // Every existing subscriber received every previous update, so they only need what changed since.
+            final Set<ServerPlayerEntity> updatedPlayers = new HashSet<>(closeSubscribers);
+            updatedPlayers.removeAll(newSubscribers);
+            if (changedSections != 0 && !updatedPlayers.isEmpty())
+            {
+                final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
+                ColonyView.writeNetworkSections(sections, changedSections, colonyPacketBuffer);
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyPacketBuffer, false), updatedPlayers);
+            }
+
+            if (!newSubscribers.isEmpty())
+            {
+                final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
+                ColonyView.writeNetworkSections(sections, allSections, colonyPacketBuffer);
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, colonyPacketBuffer, true), newSubscribers);
+            }
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -197,7 +222,14 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new PermissionsMessage.View(colony, permissions.getRank(player)), player));
+
+            // The view depends on the rank, encode it once per rank.
+            final Map<Rank, List<ServerPlayerEntity>> playersByRank = new HashMap<>();
+            for (final ServerPlayerEntity player : players)
+            {
+                playersByRank.computeIfAbsent(permissions.getRank(player), rank -> new ArrayList<>()).add(player);
+            }
+            playersByRank.forEach((rank, rankPlayers) -> Network.getNetwork().sendToPlayers(new PermissionsMessage.View(colony, rank), rankPlayers));
         }
     }
 
@@ -213,7 +245,7 @@ public class ColonyPackageManager implements IColonyPackageManager
             players.addAll(newSubscribers);
 
             List<IWorkOrder> workOrders = new ArrayList<>(workManager.getWorkOrders().values());
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewWorkOrderMessage(colony, workOrders), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, workOrders), players);
 
             workManager.setDirty(false);
         }
@@ -230,7 +262,7 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyStylesMessage(), player));
+            Network.getNetwork().sendToPlayers(new ColonyStylesMessage(), players);
         }
         Structures.clearDirty();
     }
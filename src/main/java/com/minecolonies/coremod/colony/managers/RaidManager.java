@@ -403,7 +403,7 @@ public class RaidManager implements IRaiderManager
         final BlockPos closestBuildingPos = colony.getBuildingManager().getBestBuilding(targetSpawnPoint, IBuilding.class);
         final PathJobRaiderPathing job =
           new PathJobRaiderPathing(new ArrayList<>(colony.getBuildingManager().getBuildings().values()), colony.getWorld(), closestBuildingPos, targetSpawnPoint, 200);
-        job.getResult().startJob(Pathfinding.getExecutor());
+        Pathfinding.enqueue(job);
         return job.getResult();
     }
 
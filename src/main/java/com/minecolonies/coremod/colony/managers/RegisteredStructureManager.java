@@ -37,6 +37,8 @@ import com.minecolonies.coremod.network.messages.client.colony.ColonyViewBuildin
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveBuildingMessage;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -44,6 +46,7 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MutableBoundingBox;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -52,6 +55,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.MathUtils.RANDOM;
@@ -68,6 +72,17 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @NotNull
     private ImmutableMap<BlockPos, IBuilding> buildings = ImmutableMap.of();
 
+    /**
+     * Buildings by the class or interface they were looked up with, built on the first lookup and reset when buildings are added or removed.
+     */
+    private final Map<Class<?>, List<IBuilding>> buildingsByType = new ConcurrentHashMap<>();
+
+    /**
+     * Guard buildings by the packed chunk positions their largest possible guarded region covers, built on demand.
+     */
+    @Nullable
+    private Long2ObjectMap<List<IBuilding>> guardBuildingsByChunk;
+
     /**
      * List of fields of the colony.
      */
@@ -131,6 +146,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void read(@NotNull final CompoundNBT compound)
     {
         buildings = ImmutableMap.of();
+        onBuildingsChanged();
         maxChunkX = colony.getCenter().getX() >> 4;
         minChunkX = colony.getCenter().getX() >> 4;
         maxChunkZ = colony.getCenter().getZ() >> 4;
@@ -637,6 +653,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             }
 
             buildings = builder.build();
+            onBuildingsChanged();
 
             for (final ServerPlayerEntity player : subscribers)
             {
@@ -694,9 +711,9 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         double distance = Double.MAX_VALUE;
         BlockPos goodCook = null;
-        for (final IBuilding building : buildings.values())
+        for (final IBuilding building : getBuildingsOfType(clazz))
         {
-            if (clazz.isInstance(building) && building.getBuildingLevel() > 0)
+            if (building.getBuildingLevel() > 0)
             {
                 final double localDistance = building.getPosition().distSqr(citizen);
                 if (localDistance < distance)
@@ -712,21 +729,18 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     @Override
     public BlockPos getRandomBuilding(Predicate<IBuilding> filterPredicate)
     {
-        final List<IBuilding> allowedBuildings = new ArrayList<>();
+        // Reservoir sampling, every matching building is equally likely without collecting them first.
+        IBuilding chosen = null;
+        int matching = 0;
         for (final IBuilding building : buildings.values())
         {
-            if (filterPredicate.test(building))
+            if (filterPredicate.test(building) && RANDOM.nextInt(++matching) == 0)
             {
-                allowedBuildings.add(building);
+                chosen = building;
             }
         }
 
-        if (allowedBuildings.isEmpty())
-        {
-            return null;
-        }
-
-        return allowedBuildings.get(RANDOM.nextInt(allowedBuildings.size())).getPosition();
+        return chosen == null ? null : chosen.getPosition();
     }
 
     /**
@@ -743,19 +757,91 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             return true;
         }
 
-        for (final IBuilding colonyBuilding : getBuildings().values())
+        final BlockPos pos = building.getPosition();
+        final List<IBuilding> candidates = getGuardBuildingsByChunk().get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (candidates == null)
+        {
+            return false;
+        }
+
+        for (final IBuilding colonyBuilding : candidates)
+        {
+            final MutableBoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
+            if (guardedRegion.isInside(pos))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get all buildings of a class or interface.
+     *
+     * @param clazz the class or interface.
+     * @return an immutable list, cached until buildings are added or removed.
+     */
+    private List<IBuilding> getBuildingsOfType(final Class<?> clazz)
+    {
+        List<IBuilding> matching = buildingsByType.get(clazz);
+        if (matching == null)
+        {
+            final ImmutableList.Builder<IBuilding> builder = ImmutableList.builder();
+            for (final IBuilding building : buildings.values())
+            {
+                if (clazz.isInstance(building))
+                {
+                    builder.add(building);
+                }
+            }
+            matching = builder.build();
+            buildingsByType.put(clazz, matching);
+        }
+        return matching;
+    }
+
+    /**
+     * Get the guard buildings by the chunk columns they may guard. Each guard building is indexed with the largest region it can claim at any level, so the index
+     * stays valid across upgrades and only has to be rebuilt when buildings are added or removed.
+     *
+     * @return the packed chunk position to guard buildings map.
+     */
+    private Long2ObjectMap<List<IBuilding>> getGuardBuildingsByChunk()
+    {
+        if (guardBuildingsByChunk == null)
         {
-            if (colonyBuilding instanceof IGuardBuilding)
+            final Long2ObjectMap<List<IBuilding>> index = new Long2ObjectOpenHashMap<>();
+            for (final IBuilding guardBuilding : getBuildingsOfType(IGuardBuilding.class))
             {
-                final MutableBoundingBox guardedRegion = BlockPosUtil.getChunkAlignedBB(colonyBuilding.getPosition(), colonyBuilding.getClaimRadius(colonyBuilding.getBuildingLevel()));
-                if (guardedRegion.isInside(building.getPosition()))
+                int radius = 0;
+                for (int level = 0; level <= guardBuilding.getMaxBuildingLevel(); level++)
                 {
-                    return true;
+                    radius = Math.max(radius, guardBuilding.getClaimRadius(level));
+                }
+
+                final int chunkX = guardBuilding.getPosition().getX() >> 4;
+                final int chunkZ = guardBuilding.getPosition().getZ() >> 4;
+                for (int x = chunkX - radius; x <= chunkX + radius; x++)
+                {
+                    for (int z = chunkZ - radius; z <= chunkZ + radius; z++)
+                    {
+                        index.computeIfAbsent(ChunkPos.asLong(x, z), key -> new ArrayList<>()).add(guardBuilding);
+                    }
                 }
             }
+            guardBuildingsByChunk = index;
         }
+        return guardBuildingsByChunk;
+    }
 
-        return false;
+    /**
+     * Reset the building indices after buildings were added or removed.
+     */
+    private void onBuildingsChanged()
+    {
+        buildingsByType.clear();
+        guardBuildingsByChunk = null;
     }
 
     @Override
@@ -818,6 +904,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings = new ImmutableMap.Builder<BlockPos, IBuilding>().putAll(buildings).put(building.getID(), building).build();
+        onBuildingsChanged();
 
         building.markDirty();
 
@@ -847,17 +934,23 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     {
         if (isBuildingsDirty || !newSubscribers.isEmpty())
         {
-            final Set<ServerPlayerEntity> players = new HashSet<>();
+            final Set<ServerPlayerEntity> existingSubscribers = new HashSet<>();
             if (isBuildingsDirty)
             {
-                players.addAll(closeSubscribers);
+                existingSubscribers.addAll(closeSubscribers);
+                existingSubscribers.removeAll(newSubscribers);
             }
-            players.addAll(newSubscribers);
             for (@NotNull final IBuilding building : buildings.values())
             {
-                if (building.isDirty() || !newSubscribers.isEmpty())
+                if (!newSubscribers.isEmpty())
+                {
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), newSubscribers);
+                }
+
+                // Players who already have the view only need what changed, just the dirty modules if the building itself didn't change.
+                if (!existingSubscribers.isEmpty() && building.isDirty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building, !building.hasOnlyDirtyModules()), existingSubscribers);
                 }
             }
         }
@@ -883,7 +976,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -177,12 +177,7 @@ public class VisitorManager implements IVisitorManager
             return;
         }
 
-        final ColonyVisitorViewDataMessage message = new ColonyVisitorViewDataMessage(colony, toSend, refresh);
-
-        for (final ServerPlayerEntity player : players)
-        {
-            Network.getNetwork().sendToPlayer(message, player);
-        }
+        Network.getNetwork().sendToPlayers(new ColonyVisitorViewDataMessage(colony, toSend, refresh), players);
     }
 
     @NotNull
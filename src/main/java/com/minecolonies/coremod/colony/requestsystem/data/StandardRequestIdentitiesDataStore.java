@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.requestsystem.data;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
@@ -9,10 +10,12 @@ import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.SerializationIdentifierConstants;
 import com.minecolonies.api.util.constant.TypeConstants;
+import net.minecraft.item.Item;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
@@ -20,8 +23,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -34,24 +36,188 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
     private       IToken<?>                     id;
     private final BiMap<IToken<?>, IRequest<?>> map;
 
+    /**
+     * Read only view on the map, handed out so the indexes can't be bypassed.
+     */
+    private final BiMap<IToken<?>, IRequest<?>> readOnlyMap;
+
+    /**
+     * Request tokens by the id of their requester. Tokens are stored instead of the requests, as the hashcode of a request changes with its state.
+     */
+    private final Map<IToken<?>, Set<IToken<?>>> requestsByRequester = new HashMap<>();
+
+    /**
+     * Request tokens by the class of their requestable.
+     */
+    private final Map<Class<?>, Set<IToken<?>>> requestsByType = new HashMap<>();
+
+    /**
+     * Deliverable request tokens by the items which can fulfill them.
+     */
+    private final Map<Item, Set<IToken<?>>> deliverablesByItem = new HashMap<>();
+
+    /**
+     * Deliverable request tokens which can be fulfilled by stacks of unknown items.
+     */
+    private final Set<IToken<?>> deliverablesOfAnyItem = new HashSet<>();
+
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
       final BiMap<IToken<?>, IRequest<?>> map)
     {
         this.id = id;
         this.map = map;
+        this.readOnlyMap = Maps.unmodifiableBiMap(map);
+        map.values().forEach(this::index);
     }
 
     public StandardRequestIdentitiesDataStore()
     {
-        this.id = StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN);
-        this.map = HashBiMap.create();
+        this(StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN), HashBiMap.create());
     }
 
     @Override
     public BiMap<IToken<?>, IRequest<?>> getIdentities()
     {
-        return map;
+        return readOnlyMap;
+    }
+
+    @Override
+    public void addRequest(@NotNull final IRequest<?> request)
+    {
+        final IRequest<?> previous = map.put(request.getId(), request);
+        if (previous != null)
+        {
+            unindex(previous);
+        }
+        index(request);
+    }
+
+    @Override
+    public IRequest<?> removeRequest(@NotNull final IToken<?> token)
+    {
+        final IRequest<?> request = map.remove(token);
+        if (request != null)
+        {
+            unindex(request);
+        }
+        return request;
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsMadeByRequester(@NotNull final IToken<?> requesterId)
+    {
+        return resolve(requestsByRequester.get(requesterId));
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getRequestsOfType(@NotNull final Class<?> type)
+    {
+        final List<IRequest<?>> requests = new ArrayList<>();
+        requestsByType.forEach((requestableType, tokens) -> {
+            if (type.isAssignableFrom(requestableType))
+            {
+                requests.addAll(resolve(tokens));
+            }
+        });
+        return requests;
+    }
+
+    @NotNull
+    @Override
+    public Collection<IRequest<?>> getDeliverablesPossiblyMatching(@NotNull final Item item)
+    {
+        final Collection<IRequest<?>> requests = resolve(deliverablesByItem.get(item));
+        requests.addAll(resolve(deliverablesOfAnyItem));
+        return requests;
+    }
+
+    /**
+     * Add a request to the indexes.
+     *
+     * @param request the request.
+     */
+    private void index(final IRequest<?> request)
+    {
+        requestsByRequester.computeIfAbsent(request.getRequester().getId(), requester -> new HashSet<>()).add(request.getId());
+        requestsByType.computeIfAbsent(request.getRequest().getClass(), type -> new HashSet<>()).add(request.getId());
+
+        if (request.getRequest() instanceof IDeliverable)
+        {
+            final Set<Item> items = ((IDeliverable) request.getRequest()).getMatchingItems();
+            if (items == null)
+            {
+                deliverablesOfAnyItem.add(request.getId());
+            }
+            else
+            {
+                items.forEach(item -> deliverablesByItem.computeIfAbsent(item, i -> new HashSet<>()).add(request.getId()));
+            }
+        }
+    }
+
+    /**
+     * Remove a request from the indexes.
+     *
+     * @param request the request.
+     */
+    private void unindex(final IRequest<?> request)
+    {
+        removeFromIndex(requestsByRequester, request.getRequester().getId(), request.getId());
+        removeFromIndex(requestsByType, request.getRequest().getClass(), request.getId());
+
+        if (request.getRequest() instanceof IDeliverable)
+        {
+            final Set<Item> items = ((IDeliverable) request.getRequest()).getMatchingItems();
+            if (items == null)
+            {
+                deliverablesOfAnyItem.remove(request.getId());
+            }
+            else
+            {
+                items.forEach(item -> removeFromIndex(deliverablesByItem, item, request.getId()));
+            }
+        }
+    }
+
+    /**
+     * Remove a token from an index bucket, dropping the bucket when it got empty.
+     *
+     * @param index the index.
+     * @param key   the key of the bucket.
+     * @param token the token to remove.
+     * @param <K>   the key type.
+     */
+    private static <K> void removeFromIndex(final Map<K, Set<IToken<?>>> index, final K key, final IToken<?> token)
+    {
+        final Set<IToken<?>> tokens = index.get(key);
+        if (tokens != null && tokens.remove(token) && tokens.isEmpty())
+        {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Get the requests of a set of tokens.
+     *
+     * @param tokens the tokens, may be null.
+     * @return a new list with the requests.
+     */
+    private Collection<IRequest<?>> resolve(final Set<IToken<?>> tokens)
+    {
+        if (tokens == null)
+        {
+            return new ArrayList<>();
+        }
+
+        final List<IRequest<?>> requests = new ArrayList<>(tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            requests.add(map.get(token));
+        }
+        return requests;
     }
 
     @Override
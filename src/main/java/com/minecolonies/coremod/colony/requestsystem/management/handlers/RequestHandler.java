@@ -20,7 +20,6 @@ import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
@@ -69,7 +68,7 @@ public class RequestHandler implements IRequestHandler
 
         manager.getLogger().debug("Registering request: " + request);
 
-        manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.getRequestIdentitiesDataStore().addRequest(request);
     }
 
     /**
@@ -129,21 +128,7 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
+        final List<IRequestResolver<?>> resolvers = manager.getResolverHandler().getResolverCandidates(request);
 
         IRequestResolver previousResolver = null;
         int previousMetric = Integer.MAX_VALUE;
@@ -384,7 +369,7 @@ public class RequestHandler implements IRequestHandler
 
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
-            manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.getRequestIdentitiesDataStore().removeRequest(token);
             return;
         }
 
@@ -553,18 +538,15 @@ public class RequestHandler implements IRequestHandler
             }
         }
 
-        manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.getRequestIdentitiesDataStore().removeRequest(token);
     }
 
     @Override
     public void removeRequester(final IRequester requester)
     {
-        for (final IRequest<?> req : new ArrayList<>(manager.getRequestIdentitiesDataStore().getIdentities().values()))
+        for (final IRequest<?> req : manager.getRequestIdentitiesDataStore().getRequestsMadeByRequester(requester.getId()))
         {
-            if (req.getRequester().getId().equals(requester.getId()))
-            {
-                onRequestCancelled(req.getId());
-            }
+            onRequestCancelled(req.getId());
         }
     }
 
@@ -608,11 +590,6 @@ public class RequestHandler implements IRequestHandler
     @Override
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
-        return manager.getRequestIdentitiesDataStore()
-                 .getIdentities()
-                 .values()
-                 .stream()
-                 .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
-                 .collect(Collectors.toList());
+        return manager.getRequestIdentitiesDataStore().getRequestsMadeByRequester(requester.getId());
     }
 }
@@ -1,8 +1,10 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IResolverHandler;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -35,6 +37,16 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * Priority ordered resolver candidates per requestable type.
+     */
+    private final Map<TypeToken<?>, List<IRequestResolver<?>>> candidateCache = new HashMap<>();
+
+    /**
+     * The assignment store the cached candidates were built from, deserializing the manager replaces its stores.
+     */
+    private IRequestableTypeRequestResolverAssignmentDataStore candidateCacheStore;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -86,6 +98,7 @@ public class ResolverHandler implements IResolverHandler
         }
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
+        candidateCache.clear();
 
         final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
@@ -248,6 +261,47 @@ public class ResolverHandler implements IResolverHandler
         manager.getLogger().debug("Finished reassignment of already registered requests registered to resolver with token: " + resolverToken);
     }
 
+    @Override
+    public List<IRequestResolver<?>> getResolverCandidates(final IRequest<?> request)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore store = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (store != candidateCacheStore)
+        {
+            candidateCache.clear();
+            candidateCacheStore = store;
+        }
+
+        final TypeToken<?> type = TypeToken.of(request.getRequest().getClass());
+        List<IRequestResolver<?>> candidates = candidateCache.get(type);
+        if (candidates == null)
+        {
+            candidates = computeResolverCandidates(request.getSuperClasses());
+            candidateCache.put(type, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Collect the resolvers for the given request types, ordered by priority and then by how specific their request type is.
+     *
+     * @param requestTypes The types of the request, most specific first.
+     * @return An immutable list of resolvers.
+     */
+    private List<IRequestResolver<?>> computeResolverCandidates(final Set<TypeToken<?>> requestTypes)
+    {
+        final List<TypeToken<?>> typeIndexList = new ArrayList<>(requestTypes);
+        final Map<TypeToken<?>, Collection<IToken<?>>> assignments = manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments();
+
+        return requestTypes.stream()
+                 .filter(assignments::containsKey)
+                 .flatMap(type -> assignments.get(type).stream().map(this::getResolver))
+                 .filter(resolver -> typeIndexList.contains(resolver.getRequestType()))
+                 .distinct()
+                 .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                           .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
+                 .collect(ImmutableList.toImmutableList());
+    }
+
     /**
      * Method to get all requests currently assigned to a resolver.
      *
@@ -293,6 +347,7 @@ public class ResolverHandler implements IResolverHandler
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        candidateCache.clear();
         final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
@@ -432,6 +487,20 @@ public class ResolverHandler implements IResolverHandler
         manager.getRequestResolverIdentitiesDataStore().getIdentities().values().forEach(resolver -> resolver.onColonyUpdate(manager, shouldTriggerReassign));
     }
 
+    @Override
+    public void onColonyUpdate(final Set<IToken<?>> affectedRequests, final Predicate<IRequest<?>> shouldTriggerReassign)
+    {
+        if (affectedRequests.isEmpty())
+        {
+            return;
+        }
+
+        manager.getRequestResolverIdentitiesDataStore()
+          .getIdentities()
+          .values()
+          .forEach(resolver -> resolver.onColonyUpdate(manager, shouldTriggerReassign, affectedRequests));
+    }
+
     @Override
     public boolean isBeingRemoved(final IToken<?> id)
     {
@@ -23,6 +23,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
@@ -31,7 +32,7 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
+import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -374,6 +375,70 @@ public class StandardRequestManager implements IStandardRequestManager
         getResolverHandler().onColonyUpdate(shouldTriggerReassign);
     }
 
+    @Override
+    public void onColonyUpdateForItems(@NotNull final Collection<Item> items, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
+    {
+        final Set<IToken<?>> matching = new HashSet<>();
+        for (final Item item : items)
+        {
+            for (final IRequest<?> request : getRequestIdentitiesDataStore().getDeliverablesPossiblyMatching(item))
+            {
+                if (shouldTriggerReassign.test(request))
+                {
+                    matching.add(request.getId());
+                }
+            }
+        }
+
+        getResolverHandler().onColonyUpdate(withDescendants(matching), shouldTriggerReassign);
+    }
+
+    @Override
+    public void onColonyUpdateForTypes(@NotNull final Collection<Class<? extends IRequestable>> types, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
+    {
+        final Set<IToken<?>> matching = new HashSet<>();
+        for (final Class<? extends IRequestable> type : types)
+        {
+            for (final IRequest<?> request : getRequestIdentitiesDataStore().getRequestsOfType(type))
+            {
+                if (shouldTriggerReassign.test(request))
+                {
+                    matching.add(request.getId());
+                }
+            }
+        }
+
+        getResolverHandler().onColonyUpdate(withDescendants(matching), shouldTriggerReassign);
+    }
+
+    /**
+     * Collect the given requests and all their children. A resolver reassigns a request if the predicate matches it or one of its parents, so these are the only requests
+     * which can be affected.
+     *
+     * @param tokens The tokens of the requests matching the predicate.
+     * @return The tokens and the tokens of all their children.
+     */
+    private Set<IToken<?>> withDescendants(final Set<IToken<?>> tokens)
+    {
+        final Set<IToken<?>> result = new HashSet<>();
+        final Deque<IToken<?>> open = new ArrayDeque<>(tokens);
+        while (!open.isEmpty())
+        {
+            final IToken<?> token = open.poll();
+            if (!result.add(token))
+            {
+                continue;
+            }
+
+            final IRequest<?> request = getRequestHandler().getRequestOrNull(token);
+            if (request != null)
+            {
+                open.addAll(request.getChildren());
+            }
+        }
+        return result;
+    }
+
     /**
      * Get the player resolve.
      *
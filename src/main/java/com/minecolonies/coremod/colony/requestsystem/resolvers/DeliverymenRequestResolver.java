@@ -94,28 +94,16 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
             return null;
         }
 
-        ICitizenData chosenCourier = null;
-
-        Tuple<Double, Integer> bestScore = null;
+        // Any working courier can take it, the best one is only scored when actually resolving.
         for (final ICitizenData citizen : getResolveAbleDeliverymen(manager))
         {
             if (citizen.isWorking())
             {
-                Tuple<Double, Integer> localScore = ((JobDeliveryman) citizen.getJob()).getScoreForDelivery(request);
-                if (bestScore == null || localScore.getA() < bestScore.getA())
-                {
-                    bestScore = localScore;
-                    chosenCourier = citizen;
-                }
+                return Lists.newArrayList();
             }
         }
 
-        if (chosenCourier == null)
-        {
-            return null;
-        }
-
-        return Lists.newArrayList();
+        return null;
     }
 
     @Override
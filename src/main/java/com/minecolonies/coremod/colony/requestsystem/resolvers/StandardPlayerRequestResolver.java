@@ -181,7 +181,40 @@ public class StandardPlayerRequestResolver implements IPlayerRequestResolver
     @Override
     public void onColonyUpdate(@NotNull final IRequestManager manager, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
     {
-        new ArrayList<>(assignedRequests).stream()
+        reassignTriggered(manager, shouldTriggerReassign, new ArrayList<>(assignedRequests));
+    }
+
+    @Override
+    public void onColonyUpdate(
+      @NotNull final IRequestManager manager,
+      @NotNull final Predicate<IRequest<?>> shouldTriggerReassign,
+      @NotNull final Set<IToken<?>> affectedRequests)
+    {
+        final List<IToken<?>> tokens = new ArrayList<>();
+        for (final IToken<?> requestToken : affectedRequests)
+        {
+            if (assignedRequests.contains(requestToken))
+            {
+                tokens.add(requestToken);
+            }
+        }
+
+        if (!tokens.isEmpty())
+        {
+            reassignTriggered(manager, shouldTriggerReassign, tokens);
+        }
+    }
+
+    /**
+     * Reassign the given assigned requests if the predicate matches them or one of their parents.
+     *
+     * @param manager               the request manager.
+     * @param shouldTriggerReassign the predicate.
+     * @param tokens                the tokens of the assigned requests to check.
+     */
+    private void reassignTriggered(final IRequestManager manager, final Predicate<IRequest<?>> shouldTriggerReassign, final List<IToken<?>> tokens)
+    {
+        tokens.stream()
           .map(manager::getRequestForToken)
           .forEach(request ->
           {
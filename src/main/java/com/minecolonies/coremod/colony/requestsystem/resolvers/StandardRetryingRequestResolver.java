@@ -14,6 +14,8 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.util.text.IFormattableTextComponent;
 import net.minecraft.util.text.StringTextComponent;
 import org.jetbrains.annotations.NotNull;
@@ -21,7 +23,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.RSConstants.CONST_RETRYING_RESOLVER_PRIORITY;
 
@@ -30,13 +31,37 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 
     private static final Integer CONST_RETRYING_ID_SCALE = -20000;
 
+    /**
+     * Max amount of requests retried in a single tick, due requests above that wait for the next ticks.
+     */
+    private static final int MAX_RETRIES_PER_TICK = 20;
+
     private       IRequestManager             manager;
     private final ILocation                   location;
     private final IToken<?>                   id;
     private       IToken<?>                   current;
-    private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * Amount of ticks of this resolver so far, due ticks are relative to this.
+     */
+    private long currentTick = 0;
+
+    /**
+     * The tick each waiting request is due at.
+     */
+    private final Map<IToken<?>, Long> dueTicks = new HashMap<>();
+
+    /**
+     * The waiting requests bucketed by their due tick, so a tick only looks at the requests that are due.
+     */
+    private final Long2ObjectMap<Set<IToken<?>>> dueBuckets = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Requests which are due but did not fit into the budget of their tick yet.
+     */
+    private final Deque<IToken<?>> dueQueue = new ArrayDeque<>();
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
@@ -105,7 +130,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRetryable> request) throws RuntimeException
     {
-        delays.put(request.getId(), getMaximalDelayBetweenRetriesInTicks());
+        schedule(request.getId(), getMaximalDelayBetweenRetriesInTicks());
         assignedRequests.put(request.getId(), assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1);
     }
 
@@ -123,7 +148,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         if (assignedRequests.containsKey(request.getId()))
         {
-            delays.remove(request.getId());
+            unschedule(request.getId());
             assignedRequests.remove(request.getId());
         }
     }
@@ -144,53 +169,120 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void tick()
     {
-        manager.getLogger().debug("Starting reassignment.");
+        currentTick++;
 
-        //Lets decrement all delays
-        getAllAssignedRequests().forEach(t -> {
-            Integer current = delays.remove(t);
-            delays.put(t, --current);
-        });
+        final Set<IToken<?>> due = dueBuckets.remove(currentTick);
+        if (due != null)
+        {
+            dueQueue.addAll(due);
+        }
 
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+        if (dueQueue.isEmpty())
+        {
+            return;
+        }
 
-            Integer currentAttempt = assignedRequests.get(t);
+        manager.getLogger().debug("Starting reassignment.");
 
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
+        int budget = MAX_RETRIES_PER_TICK;
+        while (budget > 0 && !dueQueue.isEmpty())
+        {
+            final IToken<?> token = dueQueue.poll();
+            final Long dueTick = dueTicks.get(token);
 
-            try
+            //Skip requests which got cancelled or rescheduled while waiting in the queue.
+            if (dueTick == null || dueTick > currentTick)
             {
-                resultingResolver = manager.reassignRequest(t, blackList);
-            }
-            catch (Exception ex)
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
+                continue;
             }
 
+            dueTicks.remove(token);
+            budget--;
+            retry(token);
+        }
+
+        manager.getLogger().debug("Finished reassignment.");
+    }
+
+    /**
+     * Attempt to reassign a due request.
+     *
+     * @param token the token of the request.
+     */
+    private void retry(final IToken<?> token)
+    {
+        final Integer currentAttempt = assignedRequests.get(token);
+        if (currentAttempt == null)
+        {
+            return;
+        }
+
+        final Set<IToken<?>> blackList = currentAttempt < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+        final IToken<?> resultingResolver;
+
+        this.setCurrent(token);
+        try
+        {
+            resultingResolver = manager.reassignRequest(token, blackList);
+        }
+        catch (Exception ex)
+        {
+            assignedRequests.remove(token);
+            unschedule(token);
+            return;
+        }
+        finally
+        {
             this.setCurrent(null);
+        }
 
-            assignedRequests.put(t, ++currentAttempt);
+        assignedRequests.put(token, currentAttempt + 1);
 
-            if (resultingResolver != null && !resultingResolver.equals(getId()))
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-            }
+        if (resultingResolver == null)
+        {
+            manager.getLogger().debug("Failed to reassign a retryable request: " + token);
+        }
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
+        if (resultingResolver == null || !resultingResolver.equals(getId()))
+        {
+            assignedRequests.remove(token);
+            unschedule(token);
+        }
+    }
 
-        successfully.forEach(t -> {
-            manager.getLogger().debug("Failed to reassign a retryable request: " + id);
-        });
+    /**
+     * Schedule a retry of a request, replacing a previous one.
+     *
+     * @param token the token of the request.
+     * @param delay the delay in ticks of this resolver.
+     */
+    private void schedule(final IToken<?> token, final int delay)
+    {
+        unschedule(token);
 
-        manager.getLogger().debug("Finished reassignment.");
+        final long dueTick = currentTick + Math.max(1, delay);
+        dueTicks.put(token, dueTick);
+        dueBuckets.computeIfAbsent(dueTick, tick -> new LinkedHashSet<>()).add(token);
+    }
+
+    /**
+     * Remove the scheduled retry of a request.
+     *
+     * @param token the token of the request.
+     */
+    private void unschedule(final IToken<?> token)
+    {
+        final Long dueTick = dueTicks.remove(token);
+        if (dueTick == null)
+        {
+            return;
+        }
+
+        final Set<IToken<?>> bucket = dueBuckets.get((long) dueTick);
+        if (bucket != null && bucket.remove(token) && bucket.isEmpty())
+        {
+            dueBuckets.remove((long) dueTick);
+        }
     }
 
     @Override
@@ -203,7 +295,9 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void onSystemReset()
     {
         assignedRequests.clear();
-        delays.clear();
+        dueTicks.clear();
+        dueBuckets.clear();
+        dueQueue.clear();
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -248,12 +342,21 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         this.assignedRequests.clear();
         this.assignedRequests.putAll(newAssignedRequests);
 
-        this.delays.clear();
-        this.delays.putAll(newDelays);
+        this.dueTicks.clear();
+        this.dueBuckets.clear();
+        this.dueQueue.clear();
+        newDelays.forEach(this::schedule);
     }
 
+    /**
+     * Get the remaining delay of every waiting request, in ticks of this resolver.
+     *
+     * @return a new map of the delays.
+     */
     public Map<IToken<?>, Integer> getDelays()
     {
+        final Map<IToken<?>, Integer> delays = new HashMap<>();
+        dueTicks.forEach((token, dueTick) -> delays.put(token, (int) Math.max(0, dueTick - currentTick)));
         return delays;
     }
 
@@ -265,7 +368,40 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void onColonyUpdate(@NotNull final IRequestManager manager, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
     {
-        new ArrayList<>(assignedRequests.keySet()).stream()
+        reassignTriggered(manager, shouldTriggerReassign, new ArrayList<>(assignedRequests.keySet()));
+    }
+
+    @Override
+    public void onColonyUpdate(
+      @NotNull final IRequestManager manager,
+      @NotNull final Predicate<IRequest<?>> shouldTriggerReassign,
+      @NotNull final Set<IToken<?>> affectedRequests)
+    {
+        final List<IToken<?>> tokens = new ArrayList<>();
+        for (final IToken<?> token : affectedRequests)
+        {
+            if (assignedRequests.containsKey(token))
+            {
+                tokens.add(token);
+            }
+        }
+
+        if (!tokens.isEmpty())
+        {
+            reassignTriggered(manager, shouldTriggerReassign, tokens);
+        }
+    }
+
+    /**
+     * Reassign the given assigned requests if the predicate matches them or one of their parents.
+     *
+     * @param manager               the request manager.
+     * @param shouldTriggerReassign the predicate.
+     * @param tokens                the tokens of the assigned requests to check.
+     */
+    private void reassignTriggered(final IRequestManager manager, final Predicate<IRequest<?>> shouldTriggerReassign, final List<IToken<?>> tokens)
+    {
+        tokens.stream()
           .map(manager::getRequestForToken)
           .forEach(request ->
           {
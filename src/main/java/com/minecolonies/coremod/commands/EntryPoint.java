@@ -87,7 +87,8 @@ public class EntryPoint
                                                .addNode(new CommandBackup().build())
                                                .addNode(new CommandResetPlayerSupplies().build())
                                                .addNode(new CommandHelp().build())
-                                               .addNode(new CommandPruneWorld().build());
+                                               .addNode(new CommandPruneWorld().build())
+                                               .addNode(new CommandPathfindingStats().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -106,7 +107,8 @@ public class EntryPoint
                                                     .addNode(new CommandBackup().build())
                                                     .addNode(new CommandResetPlayerSupplies().build())
                                                     .addNode(new CommandHelp().build())
-                                                    .addNode(new CommandPruneWorld().build());
+                                                    .addNode(new CommandPruneWorld().build())
+                                                    .addNode(new CommandPathfindingStats().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
@@ -16,6 +16,7 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.ai.citizen.builder.IBuilderUndestroyable;
 import com.minecolonies.api.entity.ai.statemachine.AIEventTarget;
@@ -627,7 +628,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
       final List<ItemStack> itemList,
       final boolean force)
     {
-        final Map<ItemStorage, Integer> requestedMap = new HashMap<>();
+        final Map<ItemKey, ItemStorage> requestedMap = new HashMap<>();
         for (final ItemStack stack : itemList)
         {
             if (stack.getItem() instanceof BlockItem && isBlockFree(((BlockItem) stack.getItem()).getBlock()))
@@ -635,16 +636,11 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
                 continue;
             }
 
-            ItemStorage tempStorage = new ItemStorage(stack.copy());
-            if (requestedMap.containsKey(tempStorage))
-            {
-                final int oldSize = requestedMap.get(tempStorage);
-                tempStorage.setAmount(tempStorage.getAmount() + oldSize);
-            }
-            requestedMap.put(tempStorage, tempStorage.getAmount());
+            final ItemStorage requested = requestedMap.computeIfAbsent(ItemKey.of(stack), key -> new ItemStorage(stack.copy(), 0, false));
+            requested.setAmount(requested.getAmount() + ItemStackUtils.getSize(stack));
         }
 
-        for (final ItemStorage stack : requestedMap.keySet())
+        for (final ItemStorage stack : requestedMap.values())
         {
             if (!InventoryUtils.hasItemInItemHandler(placer.getInventory(), stack1 ->  ItemStackUtils.compareItemStacksIgnoreStackSize(stack.getItemStack(), stack1)) && !placer.building.hasResourceInBucket(stack.getItemStack()))
             {
@@ -652,48 +648,42 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
             }
         }
 
-        final List<ItemStack> foundStacks = InventoryUtils.filterItemHandler(placer.getWorker().getInventoryCitizen(),
-          itemStack -> requestedMap.keySet().stream().anyMatch(storage -> ItemStackUtils.compareItemStacksIgnoreStackSize(storage.getItemStack(), itemStack)));
-
-        final Map<ItemStorage, Integer> localMap = new HashMap<>();
-        for (final ItemStack stack : foundStacks)
+        final Map<ItemKey, Integer> localMap = new HashMap<>();
+        for (final ItemStack stack : InventoryUtils.filterItemHandler(placer.getWorker().getInventoryCitizen(), itemStack -> !ItemStackUtils.isEmpty(itemStack)))
         {
-            ItemStorage tempStorage = new ItemStorage(stack.copy());
-            if (localMap.containsKey(tempStorage))
+            final ItemKey key = ItemKey.of(stack);
+            if (requestedMap.containsKey(key))
             {
-                final int oldSize = localMap.get(tempStorage);
-                tempStorage.setAmount(tempStorage.getAmount() + oldSize);
+                localMap.merge(key, ItemStackUtils.getSize(stack), Integer::sum);
             }
-            localMap.put(tempStorage, tempStorage.getAmount());
         }
 
         if (force)
         {
-            for (final Map.Entry<ItemStorage, Integer> local : localMap.entrySet())
+            for (final Map.Entry<ItemKey, Integer> local : localMap.entrySet())
             {
-                int req = requestedMap.getOrDefault(local.getKey(), 0);
-                if (req != 0)
+                final ItemStorage requested = requestedMap.get(local.getKey());
+                if (requested.getAmount() != 0)
                 {
-                    if (local.getValue() >= req)
+                    if (local.getValue() >= requested.getAmount())
                     {
                         requestedMap.remove(local.getKey());
                     }
                     else
                     {
-                        requestedMap.put(local.getKey(), req - local.getValue());
-
+                        requested.setAmount(requested.getAmount() - local.getValue());
                     }
                 }
             }
         }
         else
         {
-            requestedMap.entrySet().removeIf(entry -> ItemStackUtils.isEmpty(entry.getKey().getItemStack()) || foundStacks.stream().anyMatch(target -> ItemStackUtils.compareItemStacksIgnoreStackSize(target, entry.getKey().getItemStack())));
+            requestedMap.entrySet().removeIf(entry -> ItemStackUtils.isEmpty(entry.getValue().getItemStack()) || localMap.containsKey(entry.getKey()));
         }
 
-        for (final Map.Entry<ItemStorage, Integer> placedStack : requestedMap.entrySet())
+        for (final ItemStorage placedStack : requestedMap.values())
         {
-            final ItemStack stack = placedStack.getKey().getItemStack();
+            final ItemStack stack = placedStack.getItemStack();
             if (ItemStackUtils.isEmpty(stack))
             {
                 return FAIL;
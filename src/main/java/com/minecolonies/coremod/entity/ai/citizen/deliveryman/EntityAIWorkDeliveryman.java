@@ -349,21 +349,37 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         boolean success = true;
         boolean extracted = false;
         final IItemHandler workerInventory = worker.getInventoryCitizen();
-        final List<ItemStorage> itemsToDeliver = job.getTaskListWithSameDestination((IRequest<? extends Delivery>) currentTask).stream().map(r -> new ItemStorage(r.getRequest().getStack())).collect(Collectors.toList());
+        // Only the requested amounts, the inventory may hold the items of further stops of the run as well.
+        final List<ItemStack> itemsToDeliver = job.getTaskListWithSameDestination((IRequest<? extends Delivery>) currentTask)
+                                                 .stream()
+                                                 .map(r -> r.getRequest().getStack().copy())
+                                                 .collect(Collectors.toList());
 
         for (int i = 0; i < workerInventory.getSlots(); i++)
         {
-            if (workerInventory.getStackInSlot(i).isEmpty())
+            final ItemStack slotStack = workerInventory.getStackInSlot(i);
+            if (slotStack.isEmpty())
             {
                 continue;
             }
 
-            if (!itemsToDeliver.contains(new ItemStorage(workerInventory.getStackInSlot(i))))
+            int amount = 0;
+            for (final ItemStack requested : itemsToDeliver)
+            {
+                if (amount < slotStack.getCount() && !requested.isEmpty() && ItemStackUtils.compareItemStacksIgnoreStackSize(requested, slotStack))
+                {
+                    final int taken = Math.min(requested.getCount(), slotStack.getCount() - amount);
+                    requested.shrink(taken);
+                    amount += taken;
+                }
+            }
+
+            if (amount <= 0)
             {
                 continue;
             }
 
-            final ItemStack stack = workerInventory.extractItem(i, Integer.MAX_VALUE, false);
+            final ItemStack stack = workerInventory.extractItem(i, amount, false);
 
             if (ItemStackUtils.isEmpty(stack))
             {
@@ -419,8 +435,12 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
                     }
                 }
 
-                //Insert the result back into the inventory so we do not lose it.
-                workerInventory.insertItem(i, insertionResultStack, false);
+                //Insert the result back into the inventory so we do not lose it, the slot may still hold items of other stops.
+                final ItemStack remainder = workerInventory.insertItem(i, insertionResultStack, false);
+                if (!ItemStackUtils.isEmpty(remainder))
+                {
+                    InventoryUtils.addItemStackToItemHandler(workerInventory, remainder);
+                }
             }
         }
 
@@ -459,7 +479,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
             return START_WORKING;
         }
 
-        final List<IRequest<? extends Delivery>> taskList = job.getTaskListWithSameDestination((IRequest<? extends Delivery>) currentTask);
+        final List<IRequest<? extends Delivery>> taskList = job.getDeliveryRun((IRequest<? extends Delivery>) currentTask);
         final List<ItemStack> alreadyInInv = new ArrayList<>();
         IRequest<? extends Delivery> nextPickUp = null;
 
@@ -592,6 +612,14 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         }
         if (currentTask instanceof DeliveryRequest)
         {
+            // Next stop of a run, its items are carried already.
+            final ItemStack requested = ((Delivery) currentTask.getRequest()).getStack();
+            if (job.isConcurrentDelivery(currentTask.getId()) && InventoryUtils.getItemCountInItemHandler(worker.getInventoryCitizen(),
+              itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(requested, itemStack)) >= requested.getCount())
+            {
+                return DELIVERY;
+            }
+
             // Before a delivery can be made, the inventory first needs to be dumped.
             if (!worker.getInventoryCitizen().isEmpty())
             {
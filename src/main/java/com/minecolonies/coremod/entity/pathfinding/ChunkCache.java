@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
-import com.minecolonies.api.util.WorldUtil;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
@@ -8,9 +7,9 @@ import net.minecraft.fluid.FluidState;
 import net.minecraft.fluid.Fluids;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.shapes.VoxelShape;
 import net.minecraft.world.DimensionType;
 import net.minecraft.world.IWorldReader;
@@ -18,7 +17,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.BiomeManager;
 import net.minecraft.world.border.WorldBorder;
-import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraft.world.chunk.ChunkStatus;
 import net.minecraft.world.chunk.IChunk;
 import net.minecraft.world.gen.Heightmap;
@@ -31,40 +30,110 @@ import javax.annotation.Nullable;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
+/**
+ * Read-only view of the world for the pathfinding threads, backed by copies of the chunk sections taken on the server thread.
+ */
 public class ChunkCache implements IWorldReader
 {
-    protected int       chunkX;
-    protected int       chunkZ;
-    protected Chunk[][] chunkArray;
+    /**
+     * Amount of sections in a chunk.
+     */
+    private static final int SECTION_COUNT = 16;
+
+    protected int                chunkX;
+    protected int                chunkZ;
+    /**
+     * Copied chunk sections, indexed by relative chunk x, relative chunk z and section y. Null if the section is empty, not covered or the chunk was not loaded.
+     */
+    protected ChunkSection[][][] sectionArray;
+    /**
+     * Lowest and highest section index which is copied, the other sections read as air.
+     */
+    protected int                minSectionY;
+    protected int                maxSectionY;
     /**
      * set by !chunk.getAreLevelsEmpty
      */
-    protected boolean   empty;
+    protected boolean            empty;
+
     /**
-     * Reference to the World object.
+     * The dimension the sections are copied from.
      */
-    protected World     world;
+    private final RegistryKey<World> dimension;
+
+    /**
+     * The world to copy the sections from, released once the snapshot is taken.
+     */
+    @Nullable
+    private World world;
 
     public ChunkCache(World worldIn, BlockPos posFromIn, BlockPos posToIn, int subIn)
     {
         this.world = worldIn;
+        this.dimension = worldIn.dimension();
         this.chunkX = posFromIn.getX() - subIn >> 4;
         this.chunkZ = posFromIn.getZ() - subIn >> 4;
         int i = posToIn.getX() + subIn >> 4;
         int j = posToIn.getZ() + subIn >> 4;
-        this.chunkArray = new Chunk[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.minSectionY = Math.max(0, posFromIn.getY() >> 4);
+        this.maxSectionY = Math.min(SECTION_COUNT - 1, posToIn.getY() >> 4);
+        this.sectionArray = new ChunkSection[i - this.chunkX + 1][j - this.chunkZ + 1][];
         this.empty = true;
+    }
 
-        for (int k = this.chunkX; k <= i; ++k)
+    /**
+     * Copies the covered sections of the covered chunks. Must be called on the server thread before the cache is handed to a pathfinding thread, until then all blocks read as air.
+     */
+    public void takeSnapshot()
+    {
+        if (world == null)
+        {
+            return;
+        }
+
+        for (int k = 0; k < this.sectionArray.length; ++k)
         {
-            for (int l = this.chunkZ; l <= j; ++l)
+            for (int l = 0; l < this.sectionArray[k].length; ++l)
             {
-                if (WorldUtil.isEntityChunkLoaded(world, new ChunkPos(k, l)))
+                final ChunkSection[] sections = new ChunkSection[SECTION_COUNT];
+                for (int y = minSectionY; y <= maxSectionY; y++)
                 {
-                    this.chunkArray[k - this.chunkX][l - this.chunkZ] = (Chunk) worldIn.getChunk(k, l, ChunkStatus.FULL, false);
+                    sections[y] = ChunkSnapshotCache.getSnapshot(world, this.chunkX + k, y, this.chunkZ + l);
                 }
+                this.sectionArray[k][l] = sections;
             }
         }
+        world = null;
+    }
+
+    /**
+     * Get the dimension the sections are copied from.
+     *
+     * @return the dimension key.
+     */
+    public RegistryKey<World> getDimension()
+    {
+        return dimension;
+    }
+
+    /**
+     * Get the copied section at a section position. The same copy is shared by all caches until its section changes, so the returned instance identifies the section content.
+     *
+     * @param sectionX the section x.
+     * @param sectionY the section y.
+     * @param sectionZ the section z.
+     * @return the copy, or null if the section is empty, not covered or the chunk was not loaded.
+     */
+    @Nullable
+    public ChunkSection getSectionCopy(final int sectionX, final int sectionY, final int sectionZ)
+    {
+        final int i = sectionX - this.chunkX;
+        final int j = sectionZ - this.chunkZ;
+        if (i < 0 || i >= this.sectionArray.length || j < 0 || j >= this.sectionArray[i].length)
+        {
+            return null;
+        }
+        return getSection(i, j, sectionY);
     }
 
     /**
@@ -78,23 +147,14 @@ public class ChunkCache implements IWorldReader
         return this.empty;
     }
 
+    /**
+     * Tile entities are not part of the snapshot, they can't be read safely from other threads.
+     */
     @Nullable
     @Override
     public TileEntity getBlockEntity(@NotNull BlockPos pos)
     {
-        return this.getTileEntity(pos, Chunk.CreateEntityType.CHECK); // Forge: don't modify world from other threads
-    }
-
-    @Nullable
-    public TileEntity getTileEntity(BlockPos pos, Chunk.CreateEntityType createType)
-    {
-        int i = (pos.getX() >> 4) - this.chunkX;
-        int j = (pos.getZ() >> 4) - this.chunkZ;
-        if (!withinBounds(i, j))
-        {
-            return null;
-        }
-        return this.chunkArray[i][j].getBlockEntity(pos, createType);
+        return null;
     }
 
     @NotNull
@@ -106,13 +166,13 @@ public class ChunkCache implements IWorldReader
             int i = (pos.getX() >> 4) - this.chunkX;
             int j = (pos.getZ() >> 4) - this.chunkZ;
 
-            if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
+            if (i >= 0 && i < this.sectionArray.length && j >= 0 && j < this.sectionArray[i].length)
             {
-                Chunk chunk = this.chunkArray[i][j];
+                final ChunkSection section = getSection(i, j, pos.getY() >> 4);
 
-                if (chunk != null)
+                if (section != null)
                 {
-                    return chunk.getBlockState(pos);
+                    return section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
                 }
             }
         }
@@ -128,13 +188,13 @@ public class ChunkCache implements IWorldReader
             int i = (pos.getX() >> 4) - this.chunkX;
             int j = (pos.getZ() >> 4) - this.chunkZ;
 
-            if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
+            if (i >= 0 && i < this.sectionArray.length && j >= 0 && j < this.sectionArray[i].length)
             {
-                Chunk chunk = this.chunkArray[i][j];
+                final ChunkSection section = getSection(i, j, pos.getY() >> 4);
 
-                if (chunk != null)
+                if (section != null)
                 {
-                    return chunk.getFluidState(pos);
+                    return section.getFluidState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
                 }
             }
         }
@@ -159,17 +219,13 @@ public class ChunkCache implements IWorldReader
         return state.getBlock().isAir(state, this, pos);
     }
 
+    /**
+     * Live chunks are never handed out to the pathfinding threads.
+     */
     @Nullable
     @Override
     public IChunk getChunk(final int x, final int z, final ChunkStatus requiredStatus, final boolean nonnull)
     {
-        int i = x - this.chunkX;
-        int j = z - this.chunkZ;
-
-        if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
-        {
-            return this.chunkArray[i][j];
-        }
         return null;
     }
 
@@ -246,9 +302,23 @@ public class ChunkCache implements IWorldReader
         return null;
     }
 
-    private boolean withinBounds(int x, int z)
+    /**
+     * Get the copied section at the given relative chunk and section index.
+     *
+     * @param x relative chunk x, must be within bounds.
+     * @param z relative chunk z, must be within bounds.
+     * @param y section index.
+     * @return the section or null if empty or not loaded.
+     */
+    @Nullable
+    private ChunkSection getSection(final int x, final int z, final int y)
     {
-        return x >= 0 && x < chunkArray.length && z >= 0 && z < chunkArray[x].length && chunkArray[x][z] != null;
+        final ChunkSection[] sections = sectionArray[x][z];
+        if (sections == null || y < 0 || y >= sections.length)
+        {
+            return null;
+        }
+        return sections[y];
     }
 
     @Override
@@ -0,0 +1,238 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates read-only copies of chunk sections for the pathfinding threads.
+ * <p>
+ * Snapshots are taken on the server thread when a path job is queued, so the pathfinding workers never touch the live chunks. Copies are shared by all jobs and kept across
+ * ticks, a section is dropped when a block in it notifies its neighbours or its chunk unloads. Changes which don't notify neighbours are not reported, so copies are also checked
+ * again once they reach a max age. An unchanged section keeps its copy, so data derived from a copy stays valid as long as the same copy is returned.
+ */
+public final class ChunkSnapshotCache
+{
+    /**
+     * Amount of sections in a chunk.
+     */
+    private static final int SECTION_COUNT = 16;
+
+    /**
+     * Section size in blocks.
+     */
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * Ticks after which a section is copied again.
+     */
+    private static final long MAX_SNAPSHOT_AGE = 20 * 10;
+
+    /**
+     * Copied sections per world, by packed section position.
+     */
+    private static final Map<RegistryKey<World>, Long2ObjectMap<SectionSnapshot>> snapshots = new HashMap<>();
+
+    private ChunkSnapshotCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the copy of a chunk section, copying it if there is no recent copy. Must be called on the server thread.
+     *
+     * @param world    the world the chunk is in.
+     * @param chunkX   the chunk x coordinate.
+     * @param sectionY the section index.
+     * @param chunkZ   the chunk z coordinate.
+     * @return the copied section, or null if the section is empty or the chunk is not loaded.
+     */
+    @Nullable
+    public static ChunkSection getSnapshot(@NotNull final World world, final int chunkX, final int sectionY, final int chunkZ)
+    {
+        if (sectionY < 0 || sectionY >= SECTION_COUNT)
+        {
+            return null;
+        }
+
+        final Long2ObjectMap<SectionSnapshot> worldSnapshots = snapshots.computeIfAbsent(world.dimension(), key -> new Long2ObjectOpenHashMap<>());
+        final long key = SectionPos.asLong(chunkX, sectionY, chunkZ);
+        final long gameTime = world.getGameTime();
+        final SectionSnapshot cached = worldSnapshots.get(key);
+        if (cached != null && gameTime >= cached.gameTime && gameTime - cached.gameTime <= MAX_SNAPSHOT_AGE)
+        {
+            return cached.section;
+        }
+
+        if (!WorldUtil.isEntityChunkLoaded(world, chunkX, chunkZ))
+        {
+            worldSnapshots.remove(key);
+            return null;
+        }
+
+        final Chunk chunk = (Chunk) world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+        if (chunk == null)
+        {
+            worldSnapshots.remove(key);
+            return null;
+        }
+
+        final ChunkSection live = chunk.getSections()[sectionY];
+        final ChunkSection copy = cached != null && isSameContent(cached.section, live) ? cached.section : copySection(live);
+        worldSnapshots.put(key, new SectionSnapshot(copy, gameTime));
+        return copy;
+    }
+
+    /**
+     * Drop the copy of the section of a changed block.
+     *
+     * @param world the world the block changed in.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final IWorld world, @NotNull final BlockPos pos)
+    {
+        if (!(world instanceof World) || world.isClientSide())
+        {
+            return;
+        }
+
+        final Long2ObjectMap<SectionSnapshot> worldSnapshots = snapshots.get(((World) world).dimension());
+        if (worldSnapshots != null)
+        {
+            worldSnapshots.remove(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        }
+    }
+
+    /**
+     * Drop the copies of an unloaded chunk.
+     *
+     * @param world the world of the chunk.
+     * @param pos   the chunk position.
+     */
+    public static void onChunkUnloaded(@NotNull final IWorld world, @NotNull final ChunkPos pos)
+    {
+        if (!(world instanceof World) || world.isClientSide())
+        {
+            return;
+        }
+
+        final Long2ObjectMap<SectionSnapshot> worldSnapshots = snapshots.get(((World) world).dimension());
+        if (worldSnapshots == null)
+        {
+            return;
+        }
+
+        for (int y = 0; y < SECTION_COUNT; y++)
+        {
+            worldSnapshots.remove(SectionPos.asLong(pos.x, y, pos.z));
+        }
+    }
+
+    /**
+     * Drops all snapshots.
+     */
+    public static void clear()
+    {
+        snapshots.clear();
+    }
+
+    /**
+     * Copy the block states of a section. A new section is all air, so only the other states are set.
+     *
+     * @param section the live section.
+     * @return the copy, or null if the section is empty.
+     */
+    @Nullable
+    private static ChunkSection copySection(@Nullable final ChunkSection section)
+    {
+        if (ChunkSection.isEmpty(section))
+        {
+            return null;
+        }
+
+        final ChunkSection copy = new ChunkSection(section.bottomBlockY());
+        for (int y = 0; y < SECTION_SIZE; y++)
+        {
+            for (int z = 0; z < SECTION_SIZE; z++)
+            {
+                for (int x = 0; x < SECTION_SIZE; x++)
+                {
+                    final BlockState state = section.getBlockState(x, y, z);
+                    if (!state.isAir())
+                    {
+                        copy.setBlockState(x, y, z, state, false);
+                    }
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Check if a copy still matches its live section.
+     *
+     * @param copy    the copy, null if the section was empty.
+     * @param section the live section.
+     * @return true if all block states are the same.
+     */
+    private static boolean isSameContent(@Nullable final ChunkSection copy, @Nullable final ChunkSection section)
+    {
+        if (copy == null || ChunkSection.isEmpty(section))
+        {
+            return copy == null && ChunkSection.isEmpty(section);
+        }
+
+        for (int y = 0; y < SECTION_SIZE; y++)
+        {
+            for (int z = 0; z < SECTION_SIZE; z++)
+            {
+                for (int x = 0; x < SECTION_SIZE; x++)
+                {
+                    if (copy.getBlockState(x, y, z) != section.getBlockState(x, y, z))
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A copied section and the game time it was copied at.
+     */
+    private static class SectionSnapshot
+    {
+        /**
+         * The copy, null if the section was empty.
+         */
+        @Nullable
+        private final ChunkSection section;
+
+        /**
+         * The game time the copy was taken at.
+         */
+        private final long gameTime;
+
+        private SectionSnapshot(@Nullable final ChunkSection section, final long gameTime)
+        {
+            this.section = section;
+            this.gameTime = gameTime;
+        }
+    }
+}
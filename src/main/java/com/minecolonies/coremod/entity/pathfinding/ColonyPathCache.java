@@ -0,0 +1,419 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.DoorBlock;
+import net.minecraft.block.FenceGateBlock;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.state.properties.BlockStateProperties;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Cache of completed paths of one colony, so citizens walking the same routes over and over again don't have to run the path search each time.
+ * <p>
+ * Entries are dropped as soon as a block changes in a chunk section the path goes through. Changes which don't notify their neighbours are not reported, so the blocks a path
+ * walks through are also compared with the blocks the path was computed on whenever it is handed out. Entries expire after a while in any case.
+ */
+public class ColonyPathCache
+{
+    /**
+     * Max amount of paths cached per colony.
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * Ticks after which a cached path expires.
+     */
+    private static final long EXPIRY_TICKS = 20 * 60 * 5;
+
+    /**
+     * Caches per world and colony id.
+     */
+    private static final Map<RegistryKey<World>, Int2ObjectMap<ColonyPathCache>> caches = new HashMap<>();
+
+    /**
+     * Cached paths by key, in access order for eviction.
+     */
+    private final LinkedHashMap<CacheKey, CachedPath> paths = new LinkedHashMap<CacheKey, CachedPath>(16, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<CacheKey, CachedPath> eldest)
+        {
+            if (size() > MAX_ENTRIES)
+            {
+                unindex(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Packed section position to the keys of the paths crossing it.
+     */
+    private final Long2ObjectMap<Set<CacheKey>> keysBySection = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Get the path cache of a colony.
+     *
+     * @param world    the world of the colony.
+     * @param colonyId the colony id.
+     * @return the cache.
+     */
+    @NotNull
+    public static ColonyPathCache getCache(@NotNull final World world, final int colonyId)
+    {
+        return caches.computeIfAbsent(world.dimension(), key -> new Int2ObjectOpenHashMap<>()).computeIfAbsent(colonyId, id -> new ColonyPathCache());
+    }
+
+    /**
+     * Drop the cache of a deleted colony.
+     *
+     * @param world    the world of the colony.
+     * @param colonyId the colony id.
+     */
+    public static void removeCache(@NotNull final World world, final int colonyId)
+    {
+        final Int2ObjectMap<ColonyPathCache> worldCaches = caches.get(world.dimension());
+        if (worldCaches != null)
+        {
+            worldCaches.remove(colonyId);
+        }
+    }
+
+    /**
+     * Drop all cached paths going through the section of a changed block.
+     *
+     * @param world the world the block changed in.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final IWorld world, @NotNull final BlockPos pos)
+    {
+        if (!(world instanceof World) || world.isClientSide())
+        {
+            return;
+        }
+
+        final Int2ObjectMap<ColonyPathCache> worldCaches = caches.get(((World) world).dimension());
+        if (worldCaches == null)
+        {
+            return;
+        }
+
+        final long section = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        for (final ColonyPathCache cache : worldCaches.values())
+        {
+            cache.invalidateSection(section);
+        }
+    }
+
+    /**
+     * Drops all caches.
+     */
+    public static void clear()
+    {
+        caches.clear();
+    }
+
+    /**
+     * Get a copy of a cached path.
+     *
+     * @param start    the start position.
+     * @param end      the destination.
+     * @param options  the pathing options of the entity.
+     * @param world    the world to check the path against.
+     * @param gameTime the current game time.
+     * @return a copy of the path or null if nothing valid is cached.
+     */
+    @Nullable
+    public Path getPath(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final PathingOptions options, @NotNull final World world, final long gameTime)
+    {
+        final CacheKey key = new CacheKey(start, end, options);
+        final CachedPath cached = paths.get(key);
+        if (cached == null)
+        {
+            return null;
+        }
+
+        if (gameTime < cached.gameTime || gameTime - cached.gameTime > EXPIRY_TICKS || !isUnchanged(cached, world, options.canEnterDoors()))
+        {
+            remove(key);
+            return null;
+        }
+        return copyPath(cached.path);
+    }
+
+    /**
+     * Store a completed path which reached its destination.
+     *
+     * @param start    the start position.
+     * @param end      the destination.
+     * @param options  the pathing options of the entity.
+     * @param path     the path, a copy is stored.
+     * @param searched the world view the path was computed on.
+     * @param gameTime the current game time.
+     */
+    public void putPath(
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      @NotNull final PathingOptions options,
+      @NotNull final Path path,
+      @NotNull final IBlockReader searched,
+      final long gameTime)
+    {
+        final CacheKey key = new CacheKey(start, end, options);
+        if (paths.containsKey(key) || path.getNodeCount() == 0)
+        {
+            return;
+        }
+
+        final CachedPath cached = new CachedPath(copyPath(path), gameTime);
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final PathPoint point = path.getNode(i);
+            // The blocks below and above the walked block matter as well.
+            for (int y = point.y - 1; y <= point.y + 1; y++)
+            {
+                cached.sections.add(SectionPos.asLong(point.x >> 4, y >> 4, point.z >> 4));
+                cached.states.add(searched.getBlockState(pos.set(point.x, y, point.z)));
+            }
+        }
+
+        for (final long section : cached.sections)
+        {
+            keysBySection.computeIfAbsent(section, s -> new HashSet<>()).add(key);
+        }
+        paths.put(key, cached);
+    }
+
+    /**
+     * Check if the blocks a path walks through are still the blocks it was computed on.
+     *
+     * @param cached        the path.
+     * @param world         the world.
+     * @param canEnterDoors if the entity walks through doors, then opening or closing them doesn't matter.
+     * @return false if a block changed or is not loaded.
+     */
+    private static boolean isUnchanged(final CachedPath cached, final World world, final boolean canEnterDoors)
+    {
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        int index = 0;
+        for (int i = 0; i < cached.path.getNodeCount(); i++)
+        {
+            final PathPoint point = cached.path.getNode(i);
+            for (int y = point.y - 1; y <= point.y + 1; y++)
+            {
+                pos.set(point.x, y, point.z);
+                if (!WorldUtil.isBlockLoaded(world, pos) || !isSameState(cached.states.get(index++), world.getBlockState(pos), canEnterDoors))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare a block state with the state a path was computed on.
+     *
+     * @param cached        the state the path was computed on.
+     * @param current       the current state.
+     * @param canEnterDoors if the entity walks through doors.
+     * @return true if the path is still valid for the block.
+     */
+    private static boolean isSameState(final BlockState cached, final BlockState current, final boolean canEnterDoors)
+    {
+        if (cached == current)
+        {
+            return true;
+        }
+        return canEnterDoors
+                 && cached.getBlock() == current.getBlock()
+                 && (cached.getBlock() instanceof DoorBlock || cached.getBlock() instanceof FenceGateBlock)
+                 && cached.setValue(BlockStateProperties.OPEN, current.getValue(BlockStateProperties.OPEN)) == current;
+    }
+
+    /**
+     * Remove all paths crossing a section.
+     *
+     * @param section the packed section position.
+     */
+    private void invalidateSection(final long section)
+    {
+        final Set<CacheKey> keys = keysBySection.get(section);
+        if (keys == null)
+        {
+            return;
+        }
+
+        for (final CacheKey key : new ArrayList<>(keys))
+        {
+            remove(key);
+        }
+    }
+
+    /**
+     * Remove a path and its section references.
+     *
+     * @param key the key of the path.
+     */
+    private void remove(final CacheKey key)
+    {
+        final CachedPath cached = paths.remove(key);
+        if (cached != null)
+        {
+            unindex(key, cached);
+        }
+    }
+
+    /**
+     * Remove the section references of a path.
+     *
+     * @param key    the key of the path.
+     * @param cached the path.
+     */
+    private void unindex(final CacheKey key, final CachedPath cached)
+    {
+        for (final long section : cached.sections)
+        {
+            final Set<CacheKey> keys = keysBySection.get(section);
+            if (keys != null)
+            {
+                keys.remove(key);
+                if (keys.isEmpty())
+                {
+                    keysBySection.remove(section);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy a path, entities advance along their path so cached paths are never handed out directly.
+     *
+     * @param path the path to copy.
+     * @return the copy.
+     */
+    private static Path copyPath(final Path path)
+    {
+        final Map<PathPoint, PathPoint> copies = new IdentityHashMap<>();
+        final List<PathPoint> points = new ArrayList<>(path.getNodeCount());
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final PathPoint point = path.getNode(i);
+            final PathPoint copy = new PathPointExtended((PathPointExtended) point);
+            copies.put(point, copy);
+            points.add(copy);
+        }
+
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final PathPoint cameFrom = path.getNode(i).cameFrom;
+            if (cameFrom != null)
+            {
+                points.get(i).cameFrom = copies.get(cameFrom);
+            }
+        }
+
+        return new Path(points, path.getTarget(), path.canReach());
+    }
+
+    /**
+     * A cached path and the sections it depends on.
+     */
+    private static class CachedPath
+    {
+        /**
+         * The cached path, never handed out.
+         */
+        private final Path path;
+
+        /**
+         * Game time the path was cached at.
+         */
+        private final long gameTime;
+
+        /**
+         * The packed sections the path crosses.
+         */
+        private final LongSet sections = new LongOpenHashSet();
+
+        /**
+         * The states the path was computed on, below, at and above each path point.
+         */
+        private final List<BlockState> states = new ArrayList<>();
+
+        private CachedPath(final Path path, final long gameTime)
+        {
+            this.path = path;
+            this.gameTime = gameTime;
+        }
+    }
+
+    /**
+     * Key of a cached path, consisting of the route and the options that change the outcome of the search.
+     */
+    private static class CacheKey
+    {
+        private final BlockPos start;
+        private final BlockPos end;
+        private final int      flags;
+        private final double[] costs;
+
+        private CacheKey(final BlockPos start, final BlockPos end, final PathingOptions options)
+        {
+            this.start = start.immutable();
+            this.end = end.immutable();
+            this.flags = (options.canUseRails() ? 1 : 0)
+                           | (options.canSwim() ? 1 << 1 : 0)
+                           | (options.canEnterDoors() ? 1 << 2 : 0)
+                           | (options.canOpenDoors() ? 1 << 3 : 0)
+                           | (options.canClimbVines() ? 1 << 4 : 0);
+            this.costs = new double[] {options.jumpCost, options.dropCost, options.onPathCost, options.onRailCost, options.railsExitCost, options.swimCost,
+              options.swimCostEnter, options.traverseToggleAbleCost, options.vineCost};
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final CacheKey that = (CacheKey) o;
+            return flags == that.flags && start.equals(that.start) && end.equals(that.end) && Arrays.equals(costs, that.costs);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = start.hashCode();
+            result = 31 * result + end.hashCode();
+            result = 31 * result + flags;
+            return result;
+        }
+    }
+}
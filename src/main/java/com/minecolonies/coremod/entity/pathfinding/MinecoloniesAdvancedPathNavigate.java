@@ -213,7 +213,19 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
         job.setPathingOptions(getPathingOptions());
         pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
+
+        final ColonyPathCache pathCache = getColonyPathCache();
+        if (pathCache != null && job instanceof PathJobMoveToLocation)
+        {
+            final Path cachedPath = pathCache.getPath(job.getStart(), ((PathJobMoveToLocation) job).getDestination(), getPathingOptions(), level, level.getGameTime());
+            if (cachedPath != null)
+            {
+                pathResult.startWithPath(cachedPath);
+                return pathResult;
+            }
+        }
+
+        Pathfinding.enqueue(job);
         return pathResult;
     }
 
@@ -537,6 +549,13 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     private boolean processCompletedCalculationResult()
     {
+        final ColonyPathCache pathCache = getColonyPathCache();
+        if (pathCache != null && pathResult.getJob() instanceof PathJobMoveToLocation && pathResult.isPathReachingDestination())
+        {
+            final PathJobMoveToLocation job = (PathJobMoveToLocation) pathResult.getJob();
+            pathCache.putPath(job.getStart(), job.getDestination(), getPathingOptions(), pathResult.getPath(), job.getWorld(), level.getGameTime());
+        }
+
         pathResult.getJob().synchToClient(mob);
         moveTo(pathResult.getPath(), getSpeedFactor());
         if (pathResult != null)
@@ -546,6 +565,27 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         return false;
     }
 
+    /**
+     * Get the path cache of the colony of our entity.
+     *
+     * @return the cache or null if the entity does not belong to a colony.
+     */
+    @Nullable
+    private ColonyPathCache getColonyPathCache()
+    {
+        if (!(ourEntity instanceof AbstractEntityCitizen))
+        {
+            return null;
+        }
+
+        final IColony colony = ((AbstractEntityCitizen) ourEntity).getCitizenColonyHandler().getColony();
+        if (colony == null)
+        {
+            return null;
+        }
+        return ColonyPathCache.getCache(level, colony.getID());
+    }
+
     private boolean handleLadders(int oldIndex)
     {
         //  Ladder Workaround
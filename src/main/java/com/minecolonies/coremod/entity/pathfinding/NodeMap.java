@@ -0,0 +1,133 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing map of packed block positions to the visited nodes, avoiding boxed keys and entry objects.
+ */
+public class NodeMap
+{
+    /**
+     * Initial size of the table, must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Maximum fill rate before growing.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * Table of keys.
+     */
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /**
+     * Table of nodes, a null value marks a free slot.
+     */
+    private Node[] values = new Node[INITIAL_CAPACITY];
+
+    /**
+     * Amount of stored nodes.
+     */
+    private int size = 0;
+
+    /**
+     * Amount of nodes after which the table grows.
+     */
+    private int maxFill = (int) (INITIAL_CAPACITY * LOAD_FACTOR);
+
+    /**
+     * Get the node stored at a key.
+     *
+     * @param key the packed position.
+     * @return the node or null.
+     */
+    @Nullable
+    public Node get(final long key)
+    {
+        final int mask = keys.length - 1;
+        int slot = (int) HashCommon.mix(key) & mask;
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node at a key, replacing a previous node.
+     *
+     * @param key  the packed position.
+     * @param node the node.
+     */
+    public void put(final long key, @NotNull final Node node)
+    {
+        final int mask = keys.length - 1;
+        int slot = (int) HashCommon.mix(key) & mask;
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                values[slot] = node;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = node;
+        if (++size >= maxFill)
+        {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Remove all nodes, keeping the allocated tables for the next job.
+     */
+    public void clear()
+    {
+        if (size == 0)
+        {
+            return;
+        }
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void rehash(final int capacity)
+    {
+        final long[] oldKeys = keys;
+        final Node[] oldValues = values;
+        final int mask = capacity - 1;
+
+        keys = new long[capacity];
+        values = new Node[capacity];
+        maxFill = (int) (capacity * LOAD_FACTOR);
+
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] == null)
+            {
+                continue;
+            }
+
+            int slot = (int) HashCommon.mix(oldKeys[i]) & mask;
+            while (values[slot] != null)
+            {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor for the path jobs.
+ * <p>
+ * Jobs are served by priority first, colonies of the same priority take turns, so a single colony can't starve the others. A new job of an entity drops its older queued job,
+ * and the queue is capped: when it is full the least important job is completed without a path.
+ */
+public class PathJobExecutor extends ThreadPoolExecutor
+{
+    /**
+     * Colony id used for jobs without a colony.
+     */
+    private static final int NO_COLONY = -1;
+
+    /**
+     * Queue order, path jobs by their priority and fairness tag, anything else first.
+     */
+    private static final Comparator<Runnable> QUEUE_ORDER = (a, b) -> {
+        if (a instanceof QueuedPathJob && b instanceof QueuedPathJob)
+        {
+            return ((QueuedPathJob) a).compareTo((QueuedPathJob) b);
+        }
+        return Boolean.compare(a instanceof QueuedPathJob, b instanceof QueuedPathJob);
+    };
+
+    /**
+     * Max amount of queued jobs.
+     */
+    private final int maxQueueSize;
+
+    /**
+     * Last fairness tag given out per colony, only accessed on the server thread.
+     */
+    private final Map<Integer, Long> colonyTags = new HashMap<>();
+
+    /**
+     * The latest queued job per entity id.
+     */
+    private final Map<Integer, QueuedPathJob> jobsByEntity = new ConcurrentHashMap<>();
+
+    /**
+     * Fairness tag of the last job started.
+     */
+    private final AtomicLong virtualTime = new AtomicLong();
+
+    /**
+     * Submission counter, used as last tie breaker.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Statistics.
+     */
+    private final AtomicLong submitted  = new AtomicLong();
+    private final AtomicLong completed  = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong dropped    = new AtomicLong();
+
+    /**
+     * Create a new executor.
+     *
+     * @param threads      the amount of worker threads.
+     * @param maxQueueSize the max amount of queued jobs.
+     * @param factory      the thread factory.
+     */
+    public PathJobExecutor(final int threads, final int maxQueueSize, final ThreadFactory factory)
+    {
+        super(threads, threads, 10, TimeUnit.SECONDS, new PriorityBlockingQueue<>(maxQueueSize, QUEUE_ORDER), factory);
+        allowCoreThreadTimeOut(true);
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+    {
+        if (callable instanceof AbstractPathJob)
+        {
+            @SuppressWarnings("unchecked") final RunnableFuture<T> task = (RunnableFuture<T>) createTask((AbstractPathJob) callable);
+            return task;
+        }
+        return super.newTaskFor(callable);
+    }
+
+    @Override
+    public void execute(@NotNull final Runnable command)
+    {
+        if (!(command instanceof QueuedPathJob))
+        {
+            super.execute(command);
+            return;
+        }
+
+        final QueuedPathJob task = (QueuedPathJob) command;
+        submitted.incrementAndGet();
+
+        if (task.entityId != null)
+        {
+            final QueuedPathJob previous = jobsByEntity.put(task.entityId, task);
+            if (previous != null && getQueue().remove(previous))
+            {
+                previous.completeWithoutPath();
+                superseded.incrementAndGet();
+            }
+        }
+
+        if (getQueue().size() >= maxQueueSize)
+        {
+            purge();
+        }
+
+        if (getQueue().size() >= maxQueueSize)
+        {
+            final QueuedPathJob leastImportant = findLeastImportant();
+            if (leastImportant == null || leastImportant.compareTo(task) < 0)
+            {
+                // Every queued job is more important than the new one.
+                dropped.incrementAndGet();
+                task.completeWithoutPath();
+                return;
+            }
+
+            if (getQueue().remove(leastImportant))
+            {
+                dropped.incrementAndGet();
+                leastImportant.completeWithoutPath();
+            }
+        }
+
+        super.execute(task);
+    }
+
+    @Override
+    protected void beforeExecute(final Thread thread, final Runnable runnable)
+    {
+        super.beforeExecute(thread, runnable);
+        if (runnable instanceof QueuedPathJob)
+        {
+            final long tag = ((QueuedPathJob) runnable).tag;
+            virtualTime.accumulateAndGet(tag, Math::max);
+        }
+    }
+
+    @Override
+    protected void afterExecute(final Runnable runnable, final Throwable throwable)
+    {
+        super.afterExecute(runnable, throwable);
+        if (runnable instanceof QueuedPathJob)
+        {
+            final QueuedPathJob task = (QueuedPathJob) runnable;
+            completed.incrementAndGet();
+            if (task.entityId != null)
+            {
+                jobsByEntity.remove(task.entityId, task);
+            }
+        }
+    }
+
+    /**
+     * Get a description of the current queue state.
+     *
+     * @return the lines describing the stats.
+     */
+    public List<String> getStats()
+    {
+        final Map<PathJobPriority, Integer> byPriority = new EnumMap<>(PathJobPriority.class);
+        final Map<Integer, Integer> byColony = new TreeMap<>();
+        for (final Runnable runnable : getQueue().toArray(new Runnable[0]))
+        {
+            if (runnable instanceof QueuedPathJob && !((QueuedPathJob) runnable).isDone())
+            {
+                final QueuedPathJob task = (QueuedPathJob) runnable;
+                byPriority.merge(task.priority, 1, Integer::sum);
+                byColony.merge(task.colonyId, 1, Integer::sum);
+            }
+        }
+
+        final List<String> stats = new ArrayList<>();
+        stats.add(String.format("Queued: %d / %d, active workers: %d / %d", getQueue().size(), maxQueueSize, getActiveCount(), getMaximumPoolSize()));
+        stats.add(String.format("Submitted: %d, completed: %d, superseded: %d, dropped: %d", submitted.get(), completed.get(), superseded.get(), dropped.get()));
+        stats.add("By priority: " + byPriority);
+        stats.add("By colony: " + byColony);
+        return stats;
+    }
+
+    /**
+     * Wrap a job into a queue entry, assigning its priority and fairness tag. Called on the server thread.
+     *
+     * @param job the job.
+     * @return the queue entry.
+     */
+    private QueuedPathJob createTask(final AbstractPathJob job)
+    {
+        final LivingEntity entity = job.getEntity();
+        int colonyId = NO_COLONY;
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            colonyId = ((AbstractEntityCitizen) entity).getCitizenColonyHandler().getColonyId();
+        }
+
+        // Start time fair queuing: every colony continues from where the workers are, or from its own last job if it is ahead.
+        final long tag = Math.max(colonyTags.getOrDefault(colonyId, 0L), virtualTime.get()) + 1;
+        colonyTags.put(colonyId, tag);
+
+        return new QueuedPathJob(job, job.getPriority(), colonyId, entity == null ? null : entity.getId(), tag, sequence.incrementAndGet());
+    }
+
+    /**
+     * Find the queued job which would be served last.
+     *
+     * @return the job or null if none.
+     */
+    private QueuedPathJob findLeastImportant()
+    {
+        QueuedPathJob leastImportant = null;
+        for (final Runnable runnable : getQueue())
+        {
+            if (runnable instanceof QueuedPathJob && (leastImportant == null || ((QueuedPathJob) runnable).compareTo(leastImportant) > 0))
+            {
+                leastImportant = (QueuedPathJob) runnable;
+            }
+        }
+        return leastImportant;
+    }
+
+    /**
+     * Queue entry of a path job.
+     */
+    private static class QueuedPathJob extends FutureTask<Path> implements Comparable<QueuedPathJob>
+    {
+        private final PathJobPriority priority;
+        private final int             colonyId;
+        private final Integer         entityId;
+        private final long            tag;
+        private final long            sequence;
+
+        private QueuedPathJob(
+          final AbstractPathJob job,
+          final PathJobPriority priority,
+          final int colonyId,
+          final Integer entityId,
+          final long tag,
+          final long sequence)
+        {
+            super(job);
+            this.priority = priority;
+            this.colonyId = colonyId;
+            this.entityId = entityId;
+            this.tag = tag;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Complete the job without running it, the result then holds no path.
+         */
+        private void completeWithoutPath()
+        {
+            set(null);
+        }
+
+        @Override
+        public int compareTo(@NotNull final QueuedPathJob o)
+        {
+            if (priority != o.priority)
+            {
+                return o.priority.ordinal() - priority.ordinal();
+            }
+            if (tag != o.tag)
+            {
+                return Long.compare(tag, o.tag);
+            }
+            return Long.compare(sequence, o.sequence);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Scheduling priority of a path job, later values are served first.
+ */
+public enum PathJobPriority
+{
+    // Random wandering and other jobs nobody waits for
+    IDLE,
+    NORMAL,
+    // Couriers keep the request system going
+    COURIER,
+    // Guards in or around combat
+    COMBAT
+}
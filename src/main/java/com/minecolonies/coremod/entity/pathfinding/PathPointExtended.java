@@ -36,6 +36,21 @@ public class PathPointExtended extends PathPoint
         super(pos.getX(), pos.getY(), pos.getZ());
     }
 
+    /**
+     * Creates a copy of another point, without the link to the previous point.
+     *
+     * @param other the point to copy.
+     */
+    public PathPointExtended(@NotNull final PathPointExtended other)
+    {
+        super(other.x, other.y, other.z);
+        this.onLadder = other.onLadder;
+        this.ladderFacing = other.ladderFacing;
+        this.onRails = other.onRails;
+        this.railsEntry = other.railsEntry;
+        this.railsExit = other.railsExit;
+    }
+
     /**
      * Checks if the point is on a ladder.
      *
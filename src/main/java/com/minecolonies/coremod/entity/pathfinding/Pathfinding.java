@@ -24,15 +24,14 @@ import org.lwjgl.opengl.GL11;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static       ThreadPoolExecutor      executor;
+    private static PathJobExecutor executor;
 
     /**
      * Set of visited nodes.
@@ -75,11 +74,13 @@ public final class Pathfinding
      *
      * @return the threadpool executor.
      */
-    public static ThreadPoolExecutor getExecutor()
+    public static PathJobExecutor getExecutor()
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobExecutor(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(),
+              MineColonies.getConfig().getServer().pathfindingMaxQueueSize.get(),
+              new MinecoloniesThreadFactory());
         }
         return executor;
     }
@@ -90,8 +91,10 @@ public final class Pathfinding
     public static void shutdown()
     {
         getExecutor().shutdownNow();
-        jobQueue.clear();
         executor = null;
+        ChunkSnapshotCache.clear();
+        ColonyPathCache.clear();
+        SectionRegionGraph.clear();
     }
 
     private Pathfinding()
@@ -106,6 +109,7 @@ public final class Pathfinding
      */
     public static void enqueue(@NotNull final AbstractPathJob job)
     {
+        job.snapshotWorld();
         job.getResult().startJob(getExecutor());
     }
 
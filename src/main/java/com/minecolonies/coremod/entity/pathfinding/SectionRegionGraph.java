@@ -0,0 +1,615 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.SurfaceType;
+import it.unimi.dsi.fastutil.ints.*;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.minecolonies.api.util.constant.PathingConstants.MAX_Y;
+import static com.minecolonies.api.util.constant.PathingConstants.MIN_Y;
+
+/**
+ * Coarse graph of the walkable regions of chunk sections, used to plan long routes before the block level search runs.
+ * <p>
+ * Every section is split into regions: blocks an entity can stand in which are connected by walking without leaving the section. Two regions are connected if their blocks touch
+ * across the section border. The regions of a section are computed once the coarse search of a path job reaches it and are shared per world by all later jobs. They are
+ * computed from the section copies of {@link ChunkSnapshotCache}, a copy is only replaced when its section changed, so a job reuses the regions of a section as long as its
+ * snapshot holds the same copies of the section and the sections below and above it. Changed sections are computed again when a search reaches them.
+ */
+public final class SectionRegionGraph
+{
+    /**
+     * Section size in blocks.
+     */
+    private static final int SECTION_SIZE = 16;
+
+    /**
+     * Blocks per section.
+     */
+    private static final int SECTION_BLOCKS = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE;
+
+    /**
+     * Max amount of regions the coarse search expands.
+     */
+    private static final int MAX_EXPANDED_REGIONS = 512;
+
+    /**
+     * Max amount of sections computed by one search, reused sections don't count.
+     */
+    private static final int MAX_COMPUTED_SECTIONS = 384;
+
+    /**
+     * Max amount of sections kept per world.
+     */
+    private static final int MAX_CACHED_SECTIONS = 2048;
+
+    /**
+     * Amount of sections in a chunk.
+     */
+    private static final int SECTION_COUNT = 16;
+
+    /**
+     * Amount of sections the coarse search may leave the height band between start and destination.
+     */
+    private static final int VERTICAL_SLACK = 2;
+
+    /**
+     * Horizontal directions.
+     */
+    private static final int[][] HORIZONTAL = {{0, -1}, {1, 0}, {0, 1}, {-1, 0}};
+
+    /**
+     * Computed sections per world, by packed section position. Read and written by the pathfinding threads.
+     */
+    private static final Map<RegistryKey<World>, Map<Long, SectionData>> graphs = new ConcurrentHashMap<>();
+
+    /**
+     * The world snapshot to read from.
+     */
+    private final ChunkCache world;
+
+    /**
+     * Computed sections of the world of the snapshot.
+     */
+    private final Map<Long, SectionData> shared;
+
+    /**
+     * Sections used by this search, null values for sections out of height.
+     */
+    private final Long2ObjectMap<SectionData> sections = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Id of the first region of each section used by this search, the others follow.
+     */
+    private final Long2IntMap firstRegions = new Long2IntOpenHashMap();
+
+    /**
+     * Section of each region, indexed by region id.
+     */
+    private final List<SectionData> regionSections = new ArrayList<>();
+
+    /**
+     * Amount of sections computed by this search.
+     */
+    private int computedSections = 0;
+
+    /**
+     * Lowest and highest section y the search may enter.
+     */
+    private int minSectionY;
+    private int maxSectionY;
+
+    /**
+     * Create a search over a world snapshot.
+     *
+     * @param world the snapshot, only read from the calling thread.
+     */
+    public SectionRegionGraph(@NotNull final ChunkCache world)
+    {
+        this.world = world;
+        this.shared = graphs.computeIfAbsent(world.getDimension(), key -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Drop the sections of an unloaded chunk.
+     *
+     * @param world the world of the chunk.
+     * @param pos   the chunk position.
+     */
+    public static void onChunkUnloaded(@NotNull final IWorld world, @NotNull final ChunkPos pos)
+    {
+        if (!(world instanceof World) || world.isClientSide())
+        {
+            return;
+        }
+
+        final Map<Long, SectionData> worldSections = graphs.get(((World) world).dimension());
+        if (worldSections == null)
+        {
+            return;
+        }
+
+        for (int y = 0; y < SECTION_COUNT; y++)
+        {
+            worldSections.remove(SectionPos.asLong(pos.x, y, pos.z));
+        }
+    }
+
+    /**
+     * Drops all computed sections.
+     */
+    public static void clear()
+    {
+        graphs.clear();
+    }
+
+    /**
+     * Plan a coarse route between two positions.
+     *
+     * @param start the start position.
+     * @param end   the destination.
+     * @return the waypoints of the regions to pass, ending with the destination, or null if no coarse route was found.
+     */
+    @Nullable
+    public List<BlockPos> findRoute(@NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        minSectionY = (Math.min(start.getY(), end.getY()) >> 4) - VERTICAL_SLACK;
+        maxSectionY = (Math.max(start.getY(), end.getY()) >> 4) + VERTICAL_SLACK;
+
+        final int startRegion = getRegionAround(start);
+        if (startRegion < 0)
+        {
+            return null;
+        }
+        final long endSection = sectionKey(end);
+        final int endRegion = getRegionAround(end);
+
+        final Int2DoubleMap costs = new Int2DoubleOpenHashMap();
+        final Int2IntMap parents = new Int2IntOpenHashMap();
+        final IntSet closed = new IntOpenHashSet();
+        final PriorityQueue<RegionNode> open = new PriorityQueue<>();
+
+        costs.put(startRegion, 0);
+        open.add(new RegionNode(startRegion, 0, distance(getWaypoint(startRegion), end)));
+
+        int expanded = 0;
+        int goal = -1;
+        while (!open.isEmpty() && expanded < MAX_EXPANDED_REGIONS)
+        {
+            final RegionNode current = open.poll();
+            if (!closed.add(current.region))
+            {
+                continue;
+            }
+
+            if (endRegion >= 0 ? current.region == endRegion : regionSections.get(current.region).section == endSection)
+            {
+                goal = current.region;
+                break;
+            }
+            expanded++;
+
+            for (final int neighbour : getNeighbours(current.region))
+            {
+                if (closed.contains(neighbour))
+                {
+                    continue;
+                }
+
+                final double cost = current.cost + distance(getWaypoint(current.region), getWaypoint(neighbour));
+                if (!costs.containsKey(neighbour) || cost < costs.get(neighbour))
+                {
+                    costs.put(neighbour, cost);
+                    parents.put(neighbour, current.region);
+                    open.add(new RegionNode(neighbour, cost, cost + distance(getWaypoint(neighbour), end)));
+                }
+            }
+        }
+
+        if (goal < 0)
+        {
+            return null;
+        }
+
+        final LinkedList<BlockPos> route = new LinkedList<>();
+        route.add(end);
+        for (int region = goal; region != startRegion; region = parents.get(region))
+        {
+            if (region != goal)
+            {
+                route.addFirst(getWaypoint(region));
+            }
+        }
+        return new ArrayList<>(route);
+    }
+
+    /**
+     * Get the region of a position, or of the block below or above it.
+     *
+     * @param pos the position.
+     * @return the region id, or -1 if none of them can be stood in.
+     */
+    private int getRegionAround(final BlockPos pos)
+    {
+        for (final BlockPos candidate : new BlockPos[] {pos, pos.below(), pos.above()})
+        {
+            final int region = getRegion(candidate.getX(), candidate.getY(), candidate.getZ());
+            if (region >= 0)
+            {
+                return region;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the region a block belongs to.
+     *
+     * @param x the block x.
+     * @param y the block y.
+     * @param z the block z.
+     * @return the region id, or -1 if the block can't be stood in or its section is not available.
+     */
+    private int getRegion(final int x, final int y, final int z)
+    {
+        final SectionData data = getData(SectionPos.asLong(x >> 4, y >> 4, z >> 4));
+        if (data == null)
+        {
+            return -1;
+        }
+
+        final int label = data.labels[cellIndex(x & 15, y & 15, z & 15)];
+        return label == 0 ? -1 : firstRegions.get(data.section) + label - 1;
+    }
+
+    /**
+     * Get the waypoint of a region.
+     *
+     * @param region the region id.
+     * @return the waypoint.
+     */
+    private BlockPos getWaypoint(final int region)
+    {
+        final SectionData data = regionSections.get(region);
+        return data.waypoints[region - firstRegions.get(data.section)];
+    }
+
+    /**
+     * Get the regions connected to a region. Only the border blocks of the region are checked, neighbouring sections are computed on demand.
+     *
+     * @param region the region id.
+     * @return the connected region ids.
+     */
+    private IntSet getNeighbours(final int region)
+    {
+        final IntSet neighbours = new IntOpenHashSet();
+        final SectionData data = regionSections.get(region);
+        final long section = data.section;
+        final int minX = SectionPos.sectionToBlockCoord(SectionPos.x(section));
+        final int minY = SectionPos.sectionToBlockCoord(SectionPos.y(section));
+        final int minZ = SectionPos.sectionToBlockCoord(SectionPos.z(section));
+        final int max = SECTION_SIZE - 1;
+
+        for (final int cell : data.borders[region - firstRegions.get(section)])
+        {
+            final int x = cell & 15;
+            final int z = (cell >> 4) & 15;
+            final int y = cell >> 8;
+            for (final int[] dir : HORIZONTAL)
+            {
+                for (int dy = -1; dy <= 1; dy++)
+                {
+                    final int nx = x + dir[0];
+                    final int ny = y + dy;
+                    final int nz = z + dir[1];
+                    if (nx >= 0 && nx <= max && ny >= 0 && ny <= max && nz >= 0 && nz <= max)
+                    {
+                        // Still inside the section, part of the same region.
+                        continue;
+                    }
+
+                    final int neighbour = getRegion(minX + nx, minY + ny, minZ + nz);
+                    if (neighbour >= 0)
+                    {
+                        neighbours.add(neighbour);
+                    }
+                }
+            }
+        }
+        return neighbours;
+    }
+
+    /**
+     * Get the data of a section, reusing the shared data if it was computed from the same section copies as the snapshot holds.
+     *
+     * @param section the section.
+     * @return the data, or null if the section is out of the searched height or the section limit is reached.
+     */
+    @Nullable
+    private SectionData getData(final long section)
+    {
+        if (sections.containsKey(section))
+        {
+            return sections.get(section);
+        }
+
+        final int x = SectionPos.x(section);
+        final int y = SectionPos.y(section);
+        final int z = SectionPos.z(section);
+        if (y < minSectionY || y > maxSectionY || y < MIN_Y >> 4 || y >= MAX_Y >> 4)
+        {
+            sections.put(section, null);
+            return null;
+        }
+
+        final ChunkSection below = world.getSectionCopy(x, y - 1, z);
+        final ChunkSection self = world.getSectionCopy(x, y, z);
+        final ChunkSection above = world.getSectionCopy(x, y + 1, z);
+        SectionData data = shared.get(section);
+        if (data == null || data.below != below || data.self != self || data.above != above)
+        {
+            if (computedSections >= MAX_COMPUTED_SECTIONS)
+            {
+                return null;
+            }
+
+            computedSections++;
+            data = computeData(section, below, self, above);
+            if (shared.size() >= MAX_CACHED_SECTIONS)
+            {
+                shared.clear();
+            }
+            shared.put(section, data);
+        }
+
+        sections.put(section, data);
+        firstRegions.put(section, regionSections.size());
+        for (int i = 0; i < data.waypoints.length; i++)
+        {
+            regionSections.add(data);
+        }
+        return data;
+    }
+
+    /**
+     * Find the standable blocks of a section and split them into regions.
+     *
+     * @param section the section.
+     * @param below   the copy of the section below.
+     * @param self    the copy of the section.
+     * @param above   the copy of the section above.
+     * @return the computed data.
+     */
+    private SectionData computeData(final long section, @Nullable final ChunkSection below, @Nullable final ChunkSection self, @Nullable final ChunkSection above)
+    {
+        final int minX = SectionPos.sectionToBlockCoord(SectionPos.x(section));
+        final int minY = SectionPos.sectionToBlockCoord(SectionPos.y(section));
+        final int minZ = SectionPos.sectionToBlockCoord(SectionPos.z(section));
+        final boolean[] standable = new boolean[SECTION_BLOCKS];
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        final BlockState[] column = new BlockState[SECTION_SIZE + 2];
+
+        for (int x = 0; x < SECTION_SIZE; x++)
+        {
+            for (int z = 0; z < SECTION_SIZE; z++)
+            {
+                // Read the column once, from the block below the section to the block above it.
+                for (int i = 0; i < column.length; i++)
+                {
+                    column[i] = world.getBlockState(pos.set(minX + x, minY + i - 1, minZ + z));
+                }
+
+                for (int y = 0; y < SECTION_SIZE; y++)
+                {
+                    final BlockState feet = column[y + 1];
+                    if (feet.getMaterial().blocksMotion() || feet.getMaterial().isLiquid() || column[y + 2].getMaterial().blocksMotion())
+                    {
+                        continue;
+                    }
+
+                    standable[cellIndex(x, y, z)] = SurfaceType.getSurfaceType(world, column[y], pos.set(minX + x, minY + y - 1, minZ + z)) == SurfaceType.WALKABLE;
+                }
+            }
+        }
+
+        final short[] labels = new short[SECTION_BLOCKS];
+        final List<BlockPos> waypoints = new ArrayList<>();
+        final List<int[]> borders = new ArrayList<>();
+        final IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+        final IntArrayList border = new IntArrayList();
+        short regions = 0;
+        for (int cell = 0; cell < SECTION_BLOCKS; cell++)
+        {
+            if (!standable[cell] || labels[cell] != 0)
+            {
+                continue;
+            }
+
+            // Flood fill a new region, its waypoint is the block closest to the section center.
+            regions++;
+            labels[cell] = regions;
+            queue.enqueue(cell);
+            border.clear();
+            int waypoint = cell;
+            while (!queue.isEmpty())
+            {
+                final int current = queue.dequeueInt();
+                if (centerDistance(current) < centerDistance(waypoint))
+                {
+                    waypoint = current;
+                }
+
+                final int x = current & 15;
+                final int z = (current >> 4) & 15;
+                final int y = current >> 8;
+                if (x == 0 || x == SECTION_SIZE - 1 || z == 0 || z == SECTION_SIZE - 1 || y == 0 || y == SECTION_SIZE - 1)
+                {
+                    border.add(current);
+                }
+
+                for (final int[] dir : HORIZONTAL)
+                {
+                    for (int dy = -1; dy <= 1; dy++)
+                    {
+                        final int nx = x + dir[0];
+                        final int ny = y + dy;
+                        final int nz = z + dir[1];
+                        if (nx < 0 || nx >= SECTION_SIZE || ny < 0 || ny >= SECTION_SIZE || nz < 0 || nz >= SECTION_SIZE)
+                        {
+                            continue;
+                        }
+
+                        final int next = cellIndex(nx, ny, nz);
+                        if (standable[next] && labels[next] == 0)
+                        {
+                            labels[next] = regions;
+                            queue.enqueue(next);
+                        }
+                    }
+                }
+            }
+
+            waypoints.add(new BlockPos(minX + (waypoint & 15), minY + (waypoint >> 8), minZ + ((waypoint >> 4) & 15)));
+            borders.add(border.toIntArray());
+        }
+        return new SectionData(section, below, self, above, labels, waypoints.toArray(new BlockPos[0]), borders.toArray(new int[0][]));
+    }
+
+    /**
+     * Get the index of a block in a section.
+     *
+     * @param x the x within the section.
+     * @param y the y within the section.
+     * @param z the z within the section.
+     * @return the index.
+     */
+    private static int cellIndex(final int x, final int y, final int z)
+    {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    /**
+     * Squared distance of a block in a section to the section center.
+     *
+     * @param cell the block index.
+     * @return the squared distance.
+     */
+    private static int centerDistance(final int cell)
+    {
+        final int dx = (cell & 15) - SECTION_SIZE / 2;
+        final int dz = ((cell >> 4) & 15) - SECTION_SIZE / 2;
+        final int dy = (cell >> 8) - SECTION_SIZE / 2;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Get the packed section position of a block.
+     *
+     * @param pos the block.
+     * @return the section key.
+     */
+    private static long sectionKey(final BlockPos pos)
+    {
+        return SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Straight distance between two positions.
+     */
+    private static double distance(final BlockPos from, final BlockPos to)
+    {
+        return Math.sqrt(from.distSqr(to));
+    }
+
+    /**
+     * Regions of a section, never changed once computed.
+     */
+    private static class SectionData
+    {
+        /**
+         * The packed section position.
+         */
+        private final long section;
+
+        /**
+         * The section copies the data was computed from, null for empty sections.
+         */
+        @Nullable
+        private final ChunkSection below;
+        @Nullable
+        private final ChunkSection self;
+        @Nullable
+        private final ChunkSection above;
+
+        /**
+         * Region of each block, counting from 1 within the section, 0 for blocks which can't be stood in.
+         */
+        private final short[] labels;
+
+        /**
+         * Waypoint of each region.
+         */
+        private final BlockPos[] waypoints;
+
+        /**
+         * Blocks of each region on the section faces.
+         */
+        private final int[][] borders;
+
+        private SectionData(
+          final long section,
+          @Nullable final ChunkSection below,
+          @Nullable final ChunkSection self,
+          @Nullable final ChunkSection above,
+          final short[] labels,
+          final BlockPos[] waypoints,
+          final int[][] borders)
+        {
+            this.section = section;
+            this.below = below;
+            this.self = self;
+            this.above = above;
+            this.labels = labels;
+            this.waypoints = waypoints;
+            this.borders = borders;
+        }
+    }
+
+    /**
+     * Open node of the coarse search.
+     */
+    private static class RegionNode implements Comparable<RegionNode>
+    {
+        private final int    region;
+        private final double cost;
+        private final double score;
+
+        private RegionNode(final int region, final double cost, final double score)
+        {
+            this.region = region;
+            this.cost = cost;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(@NotNull final RegionNode o)
+        {
+            return Double.compare(score, o.score);
+        }
+    }
+}
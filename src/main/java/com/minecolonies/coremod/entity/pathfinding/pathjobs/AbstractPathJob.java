@@ -3,6 +3,9 @@ package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 import com.ldtteam.structurize.blocks.decorative.BlockFloatingCarpet;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.colony.jobs.IJob;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.combat.threat.IThreatTableEntity;
 import com.minecolonies.api.entity.pathfinding.AbstractAdvancedPathNavigate;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
@@ -13,8 +16,13 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.blocks.BlockDecorationController;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
 import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.NodeHeap;
+import com.minecolonies.coremod.entity.pathfinding.NodeMap;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
 import com.minecolonies.coremod.network.messages.client.SyncPathMessage;
 import com.minecolonies.coremod.network.messages.client.SyncPathReachedMessage;
@@ -82,14 +90,34 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final int maxRange;
 
     /**
-     * Queue of all open nodes.
+     * Blocks around a hard restricted area which are copied, the search reads the blocks next to the nodes it visits.
      */
-    private final Queue<Node> nodesOpen = new PriorityQueue<>(500);
+    private static final int RESTRICTED_CACHE_MARGIN = 2;
 
     /**
-     * Queue of all the visited nodes.
+     * Min blocks above and below the searched area which are copied, so short searches still find the ground below drops.
      */
-    private final Map<Integer, Node> nodesVisited = new HashMap<>();
+    private static final int MIN_CACHE_VERTICAL_MARGIN = 16;
+
+    /**
+     * Open node heaps, reused by all jobs running on the same worker thread.
+     */
+    private static final ThreadLocal<NodeHeap> openNodeHeaps = ThreadLocal.withInitial(NodeHeap::new);
+
+    /**
+     * Visited node maps, reused by all jobs running on the same worker thread.
+     */
+    private static final ThreadLocal<NodeMap> visitedNodeMaps = ThreadLocal.withInitial(NodeMap::new);
+
+    /**
+     * Heap of all open nodes, taken from the worker thread while searching.
+     */
+    private NodeHeap nodesOpen;
+
+    /**
+     * Map of all the visited nodes, taken from the worker thread while searching.
+     */
+    private NodeMap nodesVisited;
 
     //  Debug Rendering
     protected        boolean            debugDrawEnabled     = false;
@@ -166,15 +194,10 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     public AbstractPathJob(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final PathResult result, final LivingEntity entity)
     {
-        final int minX = Math.min(start.getX(), end.getX()) - (range / 2);
-        final int minZ = Math.min(start.getZ(), end.getZ()) - (range / 2);
-        final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
-        final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
-
         this.restrictionType = AbstractAdvancedPathNavigate.RestrictionType.NONE;
         this.hardXzRestriction = false;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.world = createCache(world, start, end, range / 2, range / 2);
 
         this.start = new BlockPos(start);
         this.end = end;
@@ -259,7 +282,19 @@ public abstract class AbstractPathJob implements Callable<Path>
         this.restrictionType = restrictionType;
         this.hardXzRestriction = hardRestriction;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        // A hard restriction keeps the search within the area horizontally, otherwise it may leave it on the way from the start.
+        if (hardRestriction)
+        {
+            this.world = createCache(world, new BlockPos(minX, minY, minZ), new BlockPos(maxX, maxY, maxZ), RESTRICTED_CACHE_MARGIN, range / 2);
+        }
+        else
+        {
+            this.world = createCache(world,
+              new BlockPos(Math.min(minX, start.getX()), Math.min(minY, start.getY()), Math.min(minZ, start.getZ())),
+              new BlockPos(Math.max(maxX, start.getX()), Math.max(maxY, start.getY()), Math.max(maxZ, start.getZ())),
+              range / 2,
+              range / 2);
+        }
 
         this.start = start;
 
@@ -470,17 +505,14 @@ public abstract class AbstractPathJob implements Callable<Path>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates Encodes the lowest 12 bits of x,z and all useful bits of y. This creates unique keys for all
-     * blocks within a 4096x256x4096 cube, which is FAR bigger volume than one should attempt to pathfind within This version takes a BlockPos
+     * Generate a unique key for identifying a given node by it's coordinates.
      *
      * @param pos BlockPos to generate key from
      * @return key for node in map
      */
-    private static int computeNodeKey(@NotNull final BlockPos pos)
+    private static long computeNodeKey(@NotNull final BlockPos pos)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return pos.asLong();
     }
 
     /**
@@ -575,6 +607,96 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the start position of the job.
+     *
+     * @return the start.
+     */
+    @NotNull
+    public BlockPos getStart()
+    {
+        return start;
+    }
+
+    /**
+     * Get the entity the job belongs to.
+     *
+     * @return the entity or null if there is none or it was unloaded.
+     */
+    @Nullable
+    public LivingEntity getEntity()
+    {
+        return entity == null ? null : entity.get();
+    }
+
+    /**
+     * Get the scheduling priority of the job, derived from the job of the citizen pathing and whether it is fighting.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        final LivingEntity livingEntity = getEntity();
+        if (livingEntity instanceof AbstractEntityCitizen && ((AbstractEntityCitizen) livingEntity).getCitizenData() != null)
+        {
+            final IJob<?> job = ((AbstractEntityCitizen) livingEntity).getCitizenData().getJob();
+            // Only guards in a fight, patrols and walks home are ordinary movement.
+            if (job instanceof AbstractJobGuard && livingEntity instanceof IThreatTableEntity && ((IThreatTableEntity) livingEntity).getThreatTable().getTarget() != null)
+            {
+                return PathJobPriority.COMBAT;
+            }
+            if (job instanceof JobDeliveryman)
+            {
+                return PathJobPriority.COURIER;
+            }
+        }
+        return PathJobPriority.NORMAL;
+    }
+
+    /**
+     * Create the world view of a job, covering the box spanned by two positions grown by a margin.
+     *
+     * @param world            the world.
+     * @param from             one corner of the box.
+     * @param to               the other corner of the box.
+     * @param horizontalMargin the margin to grow the box by in x and z.
+     * @param verticalMargin   the margin to grow the box by in y, at least {@link #MIN_CACHE_VERTICAL_MARGIN}.
+     * @return the cache.
+     */
+    private static ChunkCache createCache(final World world, final BlockPos from, final BlockPos to, final int horizontalMargin, final int verticalMargin)
+    {
+        final int yMargin = Math.max(verticalMargin, MIN_CACHE_VERTICAL_MARGIN);
+        return new ChunkCache(world,
+          new BlockPos(Math.min(from.getX(), to.getX()) - horizontalMargin,
+            Math.max(MIN_Y, Math.min(from.getY(), to.getY()) - yMargin),
+            Math.min(from.getZ(), to.getZ()) - horizontalMargin),
+          new BlockPos(Math.max(from.getX(), to.getX()) + horizontalMargin,
+            Math.min(MAX_Y - 1, Math.max(from.getY(), to.getY()) + yMargin),
+            Math.max(from.getZ(), to.getZ()) + horizontalMargin),
+          0);
+    }
+
+    /**
+     * Get the world view the job searches on.
+     *
+     * @return the snapshot of the job.
+     */
+    public IWorldReader getWorld()
+    {
+        return world;
+    }
+
+    /**
+     * Copies the world data the job reads, must be called on the server thread before the job is queued.
+     */
+    public void snapshotWorld()
+    {
+        if (world instanceof ChunkCache)
+        {
+            ((ChunkCache) world).takeSnapshot();
+        }
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -583,6 +705,8 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Override
     public final Path call()
     {
+        nodesOpen = openNodeHeaps.get();
+        nodesVisited = visitedNodeMaps.get();
         try
         {
             return search();
@@ -592,6 +716,14 @@ public abstract class AbstractPathJob implements Callable<Path>
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
         }
+        finally
+        {
+            // Release the nodes, the node stores stay with the worker thread for the next job.
+            nodesOpen.clear();
+            nodesVisited.clear();
+            nodesOpen = null;
+            nodesVisited = null;
+        }
 
         return null;
     }
@@ -638,6 +770,13 @@ public abstract class AbstractPathJob implements Callable<Path>
                 break;
             }
 
+            if (isViablePosition && isSegmentEnd(currentNode))
+            {
+                startSegment(currentNode);
+                bestNode = currentNode;
+                bestNodeResultScore = getNodeResultScore(currentNode);
+            }
+
             //  If this is the closest node to our destination, treat it as our best node
             final double nodeResultScore =
               getNodeResultScore(currentNode);
@@ -659,6 +798,19 @@ public abstract class AbstractPathJob implements Callable<Path>
         return path;
     }
 
+    /**
+     * Continue the search from the end of a segment. The nodes of the finished segment are dropped, the path keeps leading through them.
+     *
+     * @param segmentEnd the node which ended the segment.
+     */
+    private void startSegment(@NotNull final Node segmentEnd)
+    {
+        nodesOpen.clear();
+        nodesVisited.clear();
+        nodesVisited.put(computeNodeKey(segmentEnd.pos), segmentEnd);
+        segmentEnd.setHeuristic(computeHeuristic(segmentEnd.pos));
+    }
+
     private void handleDebugOptions(final Node currentNode)
     {
         if (debugDrawEnabled)
@@ -937,6 +1089,17 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected abstract boolean isAtDestination(Node n);
 
+    /**
+     * Return true if the given node ends the current segment of a search which is split into segments, the search then continues from this node only.
+     *
+     * @param n Node to test.
+     * @return true if the next segment should be searched from this node.
+     */
+    protected boolean isSegmentEnd(final Node n)
+    {
+        return false;
+    }
+
     /**
      * Compute a 'result score' for the Node; if no destination is determined, the node that had the highest 'result' score is used.
      *
@@ -997,7 +1160,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
-        int nodeKey = computeNodeKey(pos);
+        final long nodeKey = computeNodeKey(pos);
         Node node = nodesVisited.get(nodeKey);
         if (nodeClosed(node))
         {
@@ -1028,13 +1191,16 @@ public abstract class AbstractPathJob implements Callable<Path>
             node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
             node.setOnRails(onRails);
             node.setCornerNode(corner);
+            nodesOpen.offer(node);
         }
         else if (updateCurrentNode(parent, node, heuristic, cost, score))
         {
             return false;
         }
-
-        nodesOpen.offer(node);
+        else
+        {
+            nodesOpen.decreaseKey(node);
+        }
 
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
@@ -1054,7 +1220,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     @NotNull
     private Node createNode(
-      final Node parent, @NotNull final BlockPos pos, final int nodeKey,
+      final Node parent, @NotNull final BlockPos pos, final long nodeKey,
       final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
         final Node node;
@@ -1088,7 +1254,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -2,15 +2,22 @@ package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.SectionRegionGraph;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.math.vector.Vector3i;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 import static com.minecolonies.api.util.constant.PathingConstants.DEBUG_VERBOSITY_NONE;
 
 /**
@@ -21,11 +28,42 @@ public class PathJobMoveToLocation extends AbstractPathJob
     private static final float    DESTINATION_SLACK_NONE     = 0.1F;
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float    DESTINATION_SLACK_ADJACENT = (float) Math.sqrt(2f);
+    /**
+     * Horizontal distance from which a coarse route is planned first.
+     */
+    private static final int      LONG_ROUTE_DISTANCE        = 48;
+    /**
+     * Max height difference to a waypoint at which it counts as reached.
+     */
+    private static final int      WAYPOINT_HEIGHT_SLACK      = 2;
     @NotNull
     private final        BlockPos destination;
     // 0 = exact match
     private              float    destinationSlack           = DESTINATION_SLACK_NONE;
 
+    /**
+     * Waypoints of a coarse route to follow, ending at the destination, null if the search is not guided.
+     */
+    @Nullable
+    private BlockPos[] corridor;
+
+    /**
+     * Remaining route length from each corridor waypoint to the destination.
+     */
+    @Nullable
+    private double[] corridorRemaining;
+
+    /**
+     * Packed section position to the index of the corridor waypoint in it.
+     */
+    @Nullable
+    private Long2IntMap corridorIndex;
+
+    /**
+     * Index of the waypoint which ends the segment currently searched.
+     */
+    private int segment = 0;
+
     /**
      * Prepares the PathJob for the path finding system.
      *
@@ -63,9 +101,69 @@ public class PathJobMoveToLocation extends AbstractPathJob
             destinationSlack = DESTINATION_SLACK_ADJACENT;
         }
 
+        // Plan long routes on the region graph first, the block search then refines the route one segment at a time.
+        if (world instanceof ChunkCache
+              && Math.abs(destination.getX() - start.getX()) + Math.abs(destination.getZ() - start.getZ()) >= LONG_ROUTE_DISTANCE)
+        {
+            final List<BlockPos> route = new SectionRegionGraph((ChunkCache) world).findRoute(start, destination);
+            if (route != null)
+            {
+                setCorridor(route);
+            }
+        }
+
         return super.search();
     }
 
+    /**
+     * Split the search along a coarse route. Each segment searches for the next waypoint only, the heuristic estimates the distance along the rest of the route.
+     *
+     * @param route the route waypoints, ending at the destination.
+     */
+    private void setCorridor(@NotNull final List<BlockPos> route)
+    {
+        if (route.size() < 2)
+        {
+            return;
+        }
+
+        corridor = route.toArray(new BlockPos[0]);
+        corridorRemaining = new double[corridor.length];
+        corridorIndex = new Long2IntOpenHashMap();
+        corridorIndex.defaultReturnValue(-1);
+
+        for (int i = corridor.length - 2; i >= 0; i--)
+        {
+            corridorRemaining[i] = corridorRemaining[i + 1] + Math.sqrt(corridor[i].distSqr(corridor[i + 1]));
+        }
+        for (int i = 0; i < corridor.length; i++)
+        {
+            corridorIndex.put(sectionKey(corridor[i]), i);
+        }
+    }
+
+    /**
+     * Get the packed section position of a block.
+     *
+     * @param pos the block.
+     * @return the section key.
+     */
+    private static long sectionKey(final BlockPos pos)
+    {
+        return SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Get the location the job tries to reach.
+     *
+     * @return the destination.
+     */
+    @NotNull
+    public BlockPos getDestination()
+    {
+        return destination;
+    }
+
     @Override
     protected BlockPos getPathTargetPos(final Node finalNode)
     {
@@ -75,7 +173,30 @@ public class PathJobMoveToLocation extends AbstractPathJob
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
-        return Math.sqrt(destination.distSqr(pos));
+        if (corridor == null)
+        {
+            return Math.sqrt(destination.distSqr(pos));
+        }
+        return Math.sqrt(corridor[segment].distSqr(pos)) + corridorRemaining[segment];
+    }
+
+    @Override
+    protected boolean isSegmentEnd(@NotNull final Node n)
+    {
+        if (corridor == null)
+        {
+            return false;
+        }
+
+        // A waypoint is reached once the search enters its section near its height, later waypoints may be reached first.
+        final int index = corridorIndex.get(sectionKey(n.pos));
+        if (index < segment || index >= corridor.length - 1 || Math.abs(n.pos.getY() - corridor[index].getY()) > WAYPOINT_HEIGHT_SLACK)
+        {
+            return false;
+        }
+
+        segment = index + 1;
+        return true;
     }
 
     /**
@@ -111,6 +232,10 @@ public class PathJobMoveToLocation extends AbstractPathJob
     protected double getNodeResultScore(@NotNull final Node n)
     {
         //  For Result Score lower is better
+        if (corridor != null)
+        {
+            return n.getHeuristic();
+        }
         return destination.distSqr(n.pos);
     }
 }
@@ -7,6 +7,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.Direction;
@@ -134,6 +135,12 @@ public class PathJobRandomPos extends AbstractPathJob
         return super.search();
     }
 
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.IDLE;
+    }
+
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
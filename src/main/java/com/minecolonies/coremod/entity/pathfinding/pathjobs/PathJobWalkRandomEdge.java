@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -24,6 +25,12 @@ public class PathJobWalkRandomEdge extends AbstractPathJob
         super(world, AbstractPathJob.prepareStart(entity), start, range, entity);
     }
 
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.IDLE;
+    }
+
     @Override
     protected double computeHeuristic(final BlockPos pos)
     {
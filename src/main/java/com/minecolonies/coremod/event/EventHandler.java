@@ -33,6 +33,9 @@ import com.minecolonies.coremod.colony.jobs.JobFarmer;
 import com.minecolonies.coremod.commands.EntryPoint;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
+import com.minecolonies.coremod.entity.pathfinding.ChunkSnapshotCache;
+import com.minecolonies.coremod.entity.pathfinding.ColonyPathCache;
+import com.minecolonies.coremod.entity.pathfinding.SectionRegionGraph;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
@@ -247,9 +250,23 @@ public class EventHandler
         if (event.getWorld() instanceof ServerWorld)
         {
             ChunkDataHelper.unloadChunk((Chunk) event.getChunk(), (ServerWorld) event.getWorld());
+            ChunkSnapshotCache.onChunkUnloaded(event.getWorld(), event.getChunk().getPos());
+            SectionRegionGraph.onChunkUnloaded(event.getWorld(), event.getChunk().getPos());
         }
     }
 
+    /**
+     * Called when a block changed and notifies its neighbours, used to drop cached paths crossing it and the copy of its section.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockChanged(final BlockEvent.NeighborNotifyEvent event)
+    {
+        ColonyPathCache.onBlockChanged(event.getWorld(), event.getPos());
+        ChunkSnapshotCache.onBlockChanged(event.getWorld(), event.getPos());
+    }
+
     /**
      * Called right before dimension change event, used to remove the player from an existing colony
      *
@@ -8,13 +8,17 @@ import com.minecolonies.coremod.datalistener.ResearchListener;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.client.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
+import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.ColonyFileWriter;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
 import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -26,6 +30,10 @@ public class FMLEventHandler
     public static void onServerTick(final TickEvent.ServerTickEvent event)
     {
         IColonyManager.getInstance().onServerTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            ChunkDataHelper.sendQueuedCapSync(ServerLifecycleHooks.getCurrentServer());
+        }
     }
 
     @SubscribeEvent
@@ -68,8 +76,16 @@ public class FMLEventHandler
         IColonyManager.getInstance().getRecipeManager().reset();
     }
 
+    @SubscribeEvent
     public static void onServerStopped(final FMLServerStoppingEvent event)
     {
         Pathfinding.shutdown();
     }
+
+    @SubscribeEvent
+    public static void onServerShutdown(final FMLServerStoppedEvent event)
+    {
+        // Worlds are unloaded and saved at this point, write the queued colony files before the process may exit.
+        ColonyFileWriter.shutdown();
+    }
 }
@@ -33,6 +33,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
@@ -46,8 +47,7 @@ import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.PacketDistributor.TargetPoint;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
-import java.util.Arrays;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -292,6 +292,33 @@ public class NetworkChannel
         handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
     }
 
+    /**
+     * Sends the same message to several players. The message is encoded only once and the resulting packets are shared by all players.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayerEntity> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        if (players.size() == 1)
+        {
+            sendToPlayer(msg, players.iterator().next());
+            return;
+        }
+
+        final List<NetworkManager> connections = new ArrayList<>(players.size());
+        for (final ServerPlayerEntity player : players)
+        {
+            connections.add(player.connection.connection);
+        }
+        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.NMLIST.with(() -> connections), s));
+    }
+
     /**
      * Sends the message to the origin of a different message based on the networking context given.
      *
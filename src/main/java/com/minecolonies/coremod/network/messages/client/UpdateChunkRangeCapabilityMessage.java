@@ -17,6 +17,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
@@ -39,6 +40,17 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
         super();
     }
 
+    /**
+     * Create a message to update the caps of the given chunks on the client side.
+     *
+     * @param caps the cap data of the chunks.
+     */
+    public UpdateChunkRangeCapabilityMessage(@NotNull final Collection<ChunkCapData> caps)
+    {
+        super();
+        this.caps.addAll(caps);
+    }
+
     /**
      * Create a message to update the chunk cap on the client side.
      *
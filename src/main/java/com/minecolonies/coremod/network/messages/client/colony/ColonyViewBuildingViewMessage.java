@@ -24,6 +24,11 @@ public class ColonyViewBuildingViewMessage implements IMessage
     private BlockPos     buildingId;
     private PacketBuffer buildingData;
 
+    /**
+     * If the whole building is contained, else only its changed modules.
+     */
+    private boolean fullSync;
+
     /**
      * Dimension of the colony.
      */
@@ -43,12 +48,31 @@ public class ColonyViewBuildingViewMessage implements IMessage
      * @param building AbstractBuilding to add or update a view.
      */
     public ColonyViewBuildingViewMessage(@NotNull final IBuilding building)
+    {
+        this(building, true);
+    }
+
+    /**
+     * Creates a message to handle colony views.
+     *
+     * @param building AbstractBuilding to add or update a view.
+     * @param fullSync true to send the whole building, false to only send its changed modules.
+     */
+    public ColonyViewBuildingViewMessage(@NotNull final IBuilding building, final boolean fullSync)
     {
         super();
         this.colonyId = building.getColony().getID();
         this.buildingId = building.getID();
+        this.fullSync = fullSync;
         this.buildingData = new PacketBuffer(Unpooled.buffer());
-        building.serializeToView(this.buildingData);
+        if (fullSync)
+        {
+            building.serializeToView(this.buildingData);
+        }
+        else
+        {
+            building.serializeDirtyModulesToView(this.buildingData);
+        }
         this.dimension = building.getColony().getDimension();
     }
 
@@ -57,6 +81,7 @@ public class ColonyViewBuildingViewMessage implements IMessage
     {
         colonyId = buf.readInt();
         buildingId = buf.readBlockPos();
+        fullSync = buf.readBoolean();
         dimension = RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
         buildingData = new PacketBuffer(Unpooled.buffer(buf.readableBytes()));
         buf.readBytes(buildingData, buf.readableBytes());
@@ -67,6 +92,7 @@ public class ColonyViewBuildingViewMessage implements IMessage
     {
         buf.writeInt(colonyId);
         buf.writeBlockPos(buildingId);
+        buf.writeBoolean(fullSync);
         buf.writeUtf(dimension.location().toString());
         buf.writeBytes(buildingData);
     }
@@ -81,6 +107,6 @@ public class ColonyViewBuildingViewMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        IColonyManager.getInstance().handleColonyBuildingViewMessage(colonyId, buildingId, buildingData, dimension);
+        IColonyManager.getInstance().handleColonyBuildingViewMessage(colonyId, buildingId, buildingData, fullSync, dimension);
     }
 }
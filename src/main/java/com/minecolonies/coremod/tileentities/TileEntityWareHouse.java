@@ -1,5 +1,7 @@
 package com.minecolonies.coremod.tileentities;
 
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingInventoryIndex;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -42,8 +44,34 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<Tuple<ItemStack, BlockPos>> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(tuple -> ItemStackUtils.getSize(tuple.getA())).sum() >= count;
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        final BuildingInventoryIndex index = getBuilding().getInventoryIndex();
+        int totalCountFound = index.getCount(itemStackSelectionPredicate);
+        for (@NotNull final BlockPos pos : index.getOtherContainers())
+        {
+            if (totalCountFound >= count)
+            {
+                return true;
+            }
+
+            if (WorldUtil.isBlockLoaded(level, pos))
+            {
+                final TileEntity entity = getLevel().getBlockEntity(pos);
+                if (entity instanceof TileEntityRack)
+                {
+                    totalCountFound += ((TileEntityRack) entity).getItemCount(itemStackSelectionPredicate);
+                }
+                else if (entity instanceof ChestTileEntity)
+                {
+                    totalCountFound += InventoryUtils.getItemCountInProvider(entity, itemStackSelectionPredicate);
+                }
+            }
+        }
+        return totalCountFound >= count;
     }
 
     @Override
@@ -55,8 +83,14 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final boolean ignoreDamage, final int leftOver)
     {
-        int totalCountFound = 0 - leftOver;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        final BuildingInventoryIndex index = getBuilding().getInventoryIndex();
+        int totalCountFound = index.getCount(new ItemStorage(itemStack, ignoreDamage, ignoreNBT)) - leftOver;
+        if (totalCountFound >= count)
+        {
+            return true;
+        }
+
+        for (@NotNull final BlockPos pos : index.getOtherContainers())
         {
             if (WorldUtil.isBlockLoaded(level, pos))
             {
@@ -88,7 +122,20 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         
         if (getBuilding() != null)
         {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
+            final BuildingInventoryIndex index = getBuilding().getInventoryIndex();
+            for (@NotNull final BlockPos pos : index.getRacksHolding(itemStackSelectionPredicate))
+            {
+                final TileEntity entity = getLevel().getBlockEntity(pos);
+                if (entity instanceof TileEntityRack)
+                {
+                    for (final ItemStack stack : (InventoryUtils.filterItemHandler(((TileEntityRack) entity).getInventory(), itemStackSelectionPredicate)))
+                    {
+                        found.add(new Tuple<>(stack, pos));
+                    }
+                }
+            }
+
+            for (@NotNull final BlockPos pos : index.getOtherContainers())
             {
                 final TileEntity entity = getLevel().getBlockEntity(pos);
                 if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).getItemCount(itemStackSelectionPredicate) > 0)
@@ -181,7 +228,17 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Nullable
     private TileEntity getPositionOfChestWithItemStack(@NotNull final ItemStack stack)
     {
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        final BuildingInventoryIndex index = getBuilding().getInventoryIndex();
+        for (@NotNull final BlockPos pos : index.getRacksHolding(new ItemStorage(stack, true)))
+        {
+            final TileEntity entity = getLevel().getBlockEntity(pos);
+            if (entity instanceof AbstractTileEntityRack && ((AbstractTileEntityRack) entity).getFreeSlots() > 0)
+            {
+                return entity;
+            }
+        }
+
+        for (@NotNull final BlockPos pos : index.getOtherContainers())
         {
             if (WorldUtil.isBlockLoaded(level, pos))
             {
@@ -69,9 +69,9 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony. The colony files are snapshotted right away, writing and backing them up happens on the file writer thread.
      *
-     * @return true if succesful.
+     * @return true if the backup got scheduled.
      */
     public static boolean backupColonyData()
     {
@@ -82,77 +82,74 @@ public final class BackUpHelper
         lastBackupTime = System.currentTimeMillis();
 
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        @NotNull final File manifest = getBackupSaveLocation(new Date());
+        final int topColonyId = IColonyManager.getInstance().getTopColonyId();
+        final Map<RegistryKey<World>, Set<Integer>> existingColonies = new HashMap<>();
+        for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
         {
-            @NotNull final File saveDir =
-              new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
+            existingColonies.put(dimensionType, new HashSet<>());
+        }
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            existingColonies.computeIfAbsent(colony.getDimension(), dim -> new HashSet<>()).add(colony.getID());
+        }
+
+        final int maxKeptBackups = MineColonies.getConfig().getServer().maxkeptbackups.get();
+        ColonyFileWriter.execute(() -> storeColonyBackup(saveDir, manifest, topColonyId, existingColonies, maxKeptBackups));
+        return true;
+    }
 
-            for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
+    /**
+     * Store an incremental backup of the colony files and remove the oldest backups, runs on the file writer thread.
+     *
+     * @param saveDir          the minecolonies save folder.
+     * @param manifest         the manifest of the backup to create.
+     * @param topColonyId      the highest colony id.
+     * @param existingColonies the ids of the existing colonies by dimension.
+     * @param maxKeptBackups   the amount of backups to keep.
+     */
+    private static void storeColonyBackup(
+      final File saveDir,
+      final File manifest,
+      final int topColonyId,
+      final Map<RegistryKey<World>, Set<Integer>> existingColonies,
+      final int maxKeptBackups)
+    {
+        try
+        {
+            final List<String> paths = new ArrayList<>();
+            for (final Map.Entry<RegistryKey<World>, Set<Integer>> dimensionEntry : existingColonies.entrySet())
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                final RegistryKey<World> dimensionType = dimensionEntry.getKey();
+                for (int i = 1; i <= topColonyId + 1; i++)
                 {
                     @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
                     @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
                     if (file.exists())
                     {
                         // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
+                        if (!dimensionEntry.getValue().contains(i))
                         {
-                            markColonyDeleted(i, dimensionType);
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                            renameToDeleted(saveDir, i, dimensionType);
+                            paths.add(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
                         }
                         else
                         {
-                            addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i), zos, saveDir);
+                            paths.add(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
                         }
                     }
                     else if (fileDeleted.exists())
                     {
-                        addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
+                        paths.add(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
+            paths.add(FILENAME_MINECOLONIES);
 
-            File[] files = saveDir.listFiles();
-
-            if (files == null)
-            {
-                return true;
-            }
-
-            final List<File> fileList = new ArrayList<>();
-
-            for (final File current : files)
-            {
-                if (current.isDirectory() || !current.exists() || !current.getName().contains("colonies-"))
-                {
-                    continue;
-                }
-
-                fileList.add(current);
-            }
-
-            if (fileList.size() <= MineColonies.getConfig().getServer().maxkeptbackups.get())
-            {
-                return true;
-            }
-
-            fileList.sort(Comparator.comparingLong(File::lastModified));
-
-            int deleteCount = fileList.size() - MineColonies.getConfig().getServer().maxkeptbackups.get();
-            for (File current : fileList)
-            {
-                if (deleteCount <= 0)
-                {
-                    break;
-                }
-
-                deleteCount--;
-                current.delete();
-            }
+            BackupStore.createBackup(saveDir, manifest, paths);
+            BackupStore.prune(saveDir, maxKeptBackups);
         }
         catch (final Exception e)
         {
@@ -160,10 +157,7 @@ public final class BackUpHelper
              * Intentionally not being thrown.
              */
             Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
-            return false;
         }
-
-        return true;
     }
 
     /**
@@ -174,7 +168,11 @@ public final class BackUpHelper
         try
         {
             @NotNull final File file = BackUpHelper.getSaveLocation();
-            @Nullable final CompoundNBT data = BackUpHelper.loadNBTFromPath(file);
+            @Nullable CompoundNBT data = BackUpHelper.loadNBTFromPath(file);
+            if (data == null)
+            {
+                data = BackupStore.loadFromLatestBackup(file.getParentFile(), FILENAME_MINECOLONIES);
+            }
             if (data != null)
             {
                 Log.getLogger().info("Loading Minecolonies colony manager Backup Data");
@@ -194,15 +192,18 @@ public final class BackUpHelper
     public static void loadMissingColonies()
     {
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        ColonyFileWriter.flush();
+        final Set<String> backedUpPaths = BackupStore.getLatestBackupPaths(saveDir);
 
         for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
         {
             int missingFilesInRow = 0;
             for (int i = 1; i <= MAX_COLONY_LOAD && missingFilesInRow < 5; i++)
             {
-                // Check non-deleted files for colony id + dim
-                @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
-                if (file.exists())
+                // Check non-deleted files for colony id + dim, in the save folder or the latest backup unless the colony got deleted since
+                final String path = getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i);
+                final boolean deleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i)).exists();
+                if (new File(saveDir, path).exists() || (!deleted && backedUpPaths.contains(path)))
                 {
                     missingFilesInRow = 0;
                     // Load colony if null
@@ -233,19 +234,6 @@ public final class BackUpHelper
         return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
     }
 
-    /**
-     * Add zip to file.
-     *
-     * @param fileName the file name.
-     * @param zos      the output stream.
-     * @param folder   the folder.
-     */
-    private static void addToZipFile(final String fileName, final ZipOutputStream zos, final File folder)
-    {
-        final File file = new File(folder, fileName);
-        addFileToZipWithPath(fileName, zos, file);
-    }
-
     /**
      * Add the file to the given zip, with the path
      *
@@ -282,24 +270,16 @@ public final class BackUpHelper
     }
 
     /**
-     * Save an CompoundNBT to a file.  Does so in a safe manner using an intermediate tmp file.
+     * Save an CompoundNBT to a file.  Does so in a safe manner using an intermediate tmp file, on the file writer thread.
      *
      * @param file     The destination file to write the data to.
-     * @param compound The CompoundNBT to write to the file.
+     * @param compound The CompoundNBT to write to the file, must not be modified afterwards.
      */
     public static void saveNBTToPath(@Nullable final File file, @NotNull final CompoundNBT compound)
     {
-        try
+        if (file != null)
         {
-            if (file != null)
-            {
-                file.getParentFile().mkdirs();
-                CompressedStreamTools.write(compound, file);
-            }
-        }
-        catch (final IOException exception)
-        {
-            Log.getLogger().error("Exception when saving ColonyManager", exception);
+            ColonyFileWriter.write(file, compound);
         }
     }
 
@@ -311,6 +291,7 @@ public final class BackUpHelper
      */
     public static CompoundNBT loadNBTFromPath(@Nullable final File file)
     {
+        ColonyFileWriter.flush();
         try
         {
             if (file != null && file.exists())
@@ -354,12 +335,41 @@ public final class BackUpHelper
     {
         @NotNull final File saveDir =
           new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
-        final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
+        ColonyFileWriter.execute(() -> renameToDeleted(saveDir, colonyID, dimensionID));
+    }
+
+    /**
+     * Renames a colony's backup file to the deleted file name, runs on the file writer thread. The deleted file also keeps the colony from being restored from the latest
+     * backup, so if the colony file is missing the backed up data is written to it instead.
+     *
+     * @param saveDir     the minecolonies save folder.
+     * @param colonyID    id of the colony to delete
+     * @param dimensionID dimension of the colony to delete
+     */
+    private static void renameToDeleted(final File saveDir, final int colonyID, final RegistryKey<World> dimensionID)
+    {
+        final String path = getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID);
+        final File toDelete = new File(saveDir, path);
+        final File deleted = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY_DELETED, colonyID));
         if (toDelete.exists())
         {
-            final String fileName = getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY_DELETED, colonyID);
-            new File(saveDir, fileName).delete();
-            toDelete.renameTo(new File(saveDir, fileName));
+            deleted.delete();
+            toDelete.renameTo(deleted);
+            return;
+        }
+
+        final CompoundNBT backedUp = BackupStore.loadFromLatestBackup(saveDir, path);
+        if (backedUp != null)
+        {
+            try
+            {
+                deleted.getParentFile().mkdirs();
+                CompressedStreamTools.write(backedUp, deleted);
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().warn("Unable to mark colony " + colonyID + " as deleted, it may be restored from the latest backup", e);
+            }
         }
     }
 
@@ -408,9 +418,18 @@ public final class BackUpHelper
         CompoundNBT compound = loadNBTFromPath(backupFile);
         if (compound == null)
         {
+            // The local file of a deleted colony is newer than the colony file of the latest backup.
             if (loadDeleted)
             {
-                compound = loadNBTFromPath(new File(saveDir, String.format(getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId))));
+                compound = loadNBTFromPath(new File(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId)));
+            }
+            if (compound == null)
+            {
+                compound = BackupStore.loadFromLatestBackup(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId));
+            }
+            if (compound == null && loadDeleted)
+            {
+                compound = BackupStore.loadFromLatestBackup(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY_DELETED, colonyId));
             }
             if (compound == null)
             {
@@ -466,6 +485,7 @@ public final class BackUpHelper
      */
     public static String exportColony(final IColony colony)
     {
+        ColonyFileWriter.flush();
         final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         final File topworldDir = server.getWorldPath(FolderName.ROOT).toFile();
         final File minecraftDir = new File(topworldDir.getAbsolutePath().replace(topworldDir.getPath(), ""));
@@ -0,0 +1,263 @@
+package com.minecolonies.coremod.util;
+
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_BACKUP_BLOBS_PATH;
+
+/**
+ * Incremental backup storage of the colony files.
+ * <p>
+ * Every backup is a manifest mapping the backed up files to content addressed, compressed blobs. Files which did not change since an earlier backup point to the existing
+ * blob, so unchanged colonies don't take up space again. Only called from the file writer thread, except for restoring.
+ */
+public final class BackupStore
+{
+    /**
+     * Name part all backups contain, legacy zip backups included.
+     */
+    private static final String BACKUP_NAME_PART = "colonies-";
+
+    /**
+     * Extension of the manifests.
+     */
+    private static final String MANIFEST_EXTENSION = ".manifest";
+
+    /**
+     * Extension of the blobs.
+     */
+    private static final String BLOB_EXTENSION = ".dat.gz";
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private BackupStore()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Create a new backup of the given files.
+     *
+     * @param saveDir       the minecolonies save folder.
+     * @param manifest      the manifest file to create.
+     * @param relativePaths the paths of the files to back up, relative to the save folder.
+     * @throws IOException if writing the manifest failed.
+     */
+    public static void createBackup(@NotNull final File saveDir, @NotNull final File manifest, @NotNull final Collection<String> relativePaths) throws IOException
+    {
+        final File blobDir = new File(saveDir, FILENAME_BACKUP_BLOBS_PATH);
+        blobDir.mkdirs();
+
+        final CompoundNBT entries = new CompoundNBT();
+        for (final String relativePath : relativePaths)
+        {
+            try
+            {
+                final byte[] content = Files.readAllBytes(new File(saveDir, relativePath).toPath());
+                final String hash = Hashing.sha256().hashBytes(content).toString();
+                final File blob = new File(blobDir, hash + BLOB_EXTENSION);
+                if (!blob.exists())
+                {
+                    final File tmp = new File(blobDir, hash + ".tmp");
+                    try (OutputStream out = new GZIPOutputStream(new FileOutputStream(tmp)))
+                    {
+                        out.write(content);
+                    }
+                    ColonyFileWriter.moveReplacing(tmp, blob);
+                }
+                entries.putString(toKey(relativePath), hash);
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().warn("Error backing up " + relativePath, e);
+            }
+        }
+
+        final File tmp = new File(manifest.getParentFile(), manifest.getName() + ".tmp");
+        CompressedStreamTools.write(entries, tmp);
+        ColonyFileWriter.moveReplacing(tmp, manifest);
+    }
+
+    /**
+     * Remove the oldest backups above the limit, and all blobs no remaining manifest points to.
+     *
+     * @param saveDir        the minecolonies save folder.
+     * @param maxKeptBackups the amount of backups to keep.
+     */
+    public static void prune(@NotNull final File saveDir, final int maxKeptBackups)
+    {
+        final File[] files = saveDir.listFiles();
+        if (files == null)
+        {
+            return;
+        }
+
+        final List<File> backups = new ArrayList<>();
+        for (final File current : files)
+        {
+            if (!current.isDirectory() && current.exists() && current.getName().contains(BACKUP_NAME_PART) && !current.getName().endsWith(".tmp"))
+            {
+                backups.add(current);
+            }
+        }
+
+        backups.sort(Comparator.comparingLong(File::lastModified));
+        int deleteCount = backups.size() - maxKeptBackups;
+        final Iterator<File> iterator = backups.iterator();
+        while (deleteCount > 0 && iterator.hasNext())
+        {
+            iterator.next().delete();
+            iterator.remove();
+            deleteCount--;
+        }
+
+        final Set<String> referenced = new HashSet<>();
+        for (final File backup : backups)
+        {
+            if (backup.getName().endsWith(MANIFEST_EXTENSION))
+            {
+                final CompoundNBT entries = readManifest(backup);
+                if (entries == null)
+                {
+                    // Keep all blobs if we can't tell which are in use.
+                    return;
+                }
+                for (final String key : entries.getAllKeys())
+                {
+                    referenced.add(entries.getString(key));
+                }
+            }
+        }
+
+        final File[] blobs = new File(saveDir, FILENAME_BACKUP_BLOBS_PATH).listFiles();
+        if (blobs == null)
+        {
+            return;
+        }
+
+        for (final File blob : blobs)
+        {
+            final String name = blob.getName();
+            if (!name.endsWith(BLOB_EXTENSION) || !referenced.contains(name.substring(0, name.length() - BLOB_EXTENSION.length())))
+            {
+                blob.delete();
+            }
+        }
+    }
+
+    /**
+     * Get the paths of all files in the latest backup.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the relative paths.
+     */
+    @NotNull
+    public static Set<String> getLatestBackupPaths(@NotNull final File saveDir)
+    {
+        final File manifest = getLatestManifest(saveDir);
+        final CompoundNBT entries = manifest == null ? null : readManifest(manifest);
+        if (entries == null)
+        {
+            return Collections.emptySet();
+        }
+
+        final Set<String> paths = new HashSet<>();
+        for (final String key : entries.getAllKeys())
+        {
+            paths.add(key.replace('/', File.separatorChar));
+        }
+        return paths;
+    }
+
+    /**
+     * Load a file from the latest backup.
+     *
+     * @param saveDir      the minecolonies save folder.
+     * @param relativePath the path of the file, relative to the save folder.
+     * @return the data or null if the latest backup doesn't contain it.
+     */
+    @Nullable
+    public static CompoundNBT loadFromLatestBackup(@NotNull final File saveDir, @NotNull final String relativePath)
+    {
+        final File manifest = getLatestManifest(saveDir);
+        final CompoundNBT entries = manifest == null ? null : readManifest(manifest);
+        final String key = toKey(relativePath);
+        if (entries == null || !entries.contains(key))
+        {
+            return null;
+        }
+
+        final File blob = new File(new File(saveDir, FILENAME_BACKUP_BLOBS_PATH), entries.getString(key) + BLOB_EXTENSION);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(blob)))))
+        {
+            Log.getLogger().info("Restoring " + relativePath + " from backup " + manifest.getName());
+            return CompressedStreamTools.read(in);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Error restoring " + relativePath + " from backup " + manifest.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Find the newest manifest.
+     *
+     * @param saveDir the minecolonies save folder.
+     * @return the manifest or null if there is none.
+     */
+    @Nullable
+    private static File getLatestManifest(final File saveDir)
+    {
+        final File[] files = saveDir.listFiles((dir, name) -> name.contains(BACKUP_NAME_PART) && name.endsWith(MANIFEST_EXTENSION));
+        if (files == null || files.length == 0)
+        {
+            return null;
+        }
+        return Collections.max(Arrays.asList(files), Comparator.comparingLong(File::lastModified));
+    }
+
+    /**
+     * Read the entries of a manifest.
+     *
+     * @param manifest the manifest file.
+     * @return the entries or null if unreadable.
+     */
+    @Nullable
+    private static CompoundNBT readManifest(final File manifest)
+    {
+        try
+        {
+            return CompressedStreamTools.read(manifest);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read backup manifest " + manifest.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Convert a relative path to a platform independent manifest key.
+     *
+     * @param relativePath the path.
+     * @return the key.
+     */
+    private static String toKey(final String relativePath)
+    {
+        return relativePath.replace(File.separatorChar, '/');
+    }
+}
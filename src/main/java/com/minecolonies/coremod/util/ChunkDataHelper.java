@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.util;
 
+import com.minecolonies.api.colony.ColonyClaimIndex;
 import com.minecolonies.api.colony.IChunkmanagerCapability;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -12,15 +13,25 @@ import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
-import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
+import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.SectionPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.DISTANCE_TO_LOAD_IMMEDIATELY;
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.UNABLE_TO_FIND_WORLD_CAP_TEXT;
 import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
@@ -32,6 +43,11 @@ import static com.minecolonies.coremod.MineColonies.*;
  */
 public final class ChunkDataHelper
 {
+    /**
+     * Packed positions of the chunks whose claim data changed this tick, per dimension.
+     */
+    private static final Map<RegistryKey<World>, LongSet> pendingCapSync = new HashMap<>();
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -42,6 +58,60 @@ public final class ChunkDataHelper
          */
     }
 
+    /**
+     * Queue syncing the claim data of a chunk to the players tracking it at the end of the tick.
+     *
+     * @param chunk the chunk that changed.
+     */
+    public static void queueCapSync(@NotNull final Chunk chunk)
+    {
+        pendingCapSync.computeIfAbsent(chunk.getLevel().dimension(), key -> new LongOpenHashSet()).add(ChunkPos.asLong(chunk.getPos().x, chunk.getPos().z));
+    }
+
+    /**
+     * Send the claim data of all chunks changed this tick, one message per player covering all changed chunks the player tracks. Players who start tracking a chunk later get
+     * its data when entering the chunk range.
+     *
+     * @param server the server.
+     */
+    public static void sendQueuedCapSync(@NotNull final MinecraftServer server)
+    {
+        if (pendingCapSync.isEmpty())
+        {
+            return;
+        }
+
+        final Map<ServerPlayerEntity, List<ChunkCapData>> updates = new HashMap<>();
+        for (final Map.Entry<RegistryKey<World>, LongSet> entry : pendingCapSync.entrySet())
+        {
+            final ServerWorld world = server.getLevel(entry.getKey());
+            if (world == null)
+            {
+                continue;
+            }
+
+            for (final long packedPos : entry.getValue())
+            {
+                final ChunkPos pos = new ChunkPos(packedPos);
+                final Chunk chunk = world.getChunkSource().getChunkNow(pos.x, pos.z);
+                final IColonyTagCapability cap = chunk == null ? null : chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+                if (cap == null)
+                {
+                    continue;
+                }
+
+                final ChunkCapData data = new ChunkCapData(pos.x, pos.z, cap.getOwningColony(), cap.getStaticClaimColonies());
+                world.getChunkSource().chunkMap.getPlayers(pos, false).forEach(player -> updates.computeIfAbsent(player, key -> new ArrayList<>()).add(data));
+            }
+        }
+        pendingCapSync.clear();
+
+        for (final Map.Entry<ServerPlayerEntity, List<ChunkCapData>> entry : updates.entrySet())
+        {
+            Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(entry.getValue()), entry.getKey());
+        }
+    }
+
     /**
      * Load the colony info for a certain chunk.
      *
@@ -76,6 +146,7 @@ public final class ChunkDataHelper
         }
 
         final int closeColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        ColonyClaimIndex.setOwner(chunk, closeColony);
         if (closeColony != 0)
         {
             final IColony colony = IColonyManager.getInstance().getColonyByDimension(closeColony, world.dimension());
@@ -94,6 +165,7 @@ public final class ChunkDataHelper
      */
     public static void unloadChunk(final Chunk chunk, final World world)
     {
+        ColonyClaimIndex.remove(world, chunk.getPos().x, chunk.getPos().z);
         final int closeColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
         if (closeColony != 0)
         {
@@ -118,7 +190,7 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+            queueCapSync(chunk);
         }
     }
 
@@ -360,7 +432,7 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        queueCapSync(chunk);
         return true;
     }
 
@@ -415,7 +487,7 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(colony.getID(), buildingPos, chunk);
         }
 
-        Network.getNetwork().sendToTrackingChunk(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z), chunk);
+        queueCapSync(chunk);
         return true;
     }
 }
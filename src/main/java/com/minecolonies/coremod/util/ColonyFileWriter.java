@@ -0,0 +1,211 @@
+package com.minecolonies.coremod.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Writes the colony save files on a background thread.
+ * <p>
+ * The compounds handed over are snapshots taken on the server thread and must not be modified afterwards. Repeated writes of the same file before the previous one ran are
+ * coalesced, only the latest snapshot gets written. All tasks run in submission order, so file operations queued after a write see its result.
+ */
+public final class ColonyFileWriter
+{
+    /**
+     * Max time to wait for the pending writes on shutdown.
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    /**
+     * Suffix of the temporary file written before it replaces the actual file.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * Latest snapshot per file which has not been written yet.
+     */
+    private static final Map<File, CompoundNBT> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * The single I/O thread, created on demand.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonyFileWriter()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue writing a compound to a file, replacing a queued older snapshot of the same file.
+     *
+     * @param file     the destination file.
+     * @param compound the snapshot to write, must not be modified afterwards.
+     */
+    public static void write(@NotNull final File file, @NotNull final CompoundNBT compound)
+    {
+        if (pendingWrites.put(file, compound) == null)
+        {
+            execute(() -> {
+                final CompoundNBT latest = pendingWrites.remove(file);
+                if (latest != null)
+                {
+                    writeNow(file, latest);
+                }
+            });
+        }
+    }
+
+    /**
+     * Queue a file operation which has to run after all currently queued writes.
+     *
+     * @param task the task.
+     */
+    public static synchronized void execute(@NotNull final Runnable task)
+    {
+        getExecutor().execute(() -> {
+            try
+            {
+                task.run();
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().warn("Minecolonies file task failed", e);
+            }
+        });
+    }
+
+    /**
+     * Wait until all queued tasks ran, used before reading the files back.
+     */
+    public static void flush()
+    {
+        final Future<?> marker;
+        synchronized (ColonyFileWriter.class)
+        {
+            if (executor == null)
+            {
+                return;
+            }
+            marker = executor.submit(() -> {});
+        }
+
+        try
+        {
+            marker.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException | TimeoutException e)
+        {
+            Log.getLogger().warn("Waiting for the colony files to be written failed", e);
+        }
+    }
+
+    /**
+     * Write everything still queued and stop the I/O thread.
+     */
+    public static void shutdown()
+    {
+        final ExecutorService current;
+        synchronized (ColonyFileWriter.class)
+        {
+            current = executor;
+            executor = null;
+        }
+
+        if (current == null)
+        {
+            return;
+        }
+
+        current.shutdown();
+        try
+        {
+            if (!current.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+            {
+                Log.getLogger().error("Colony files were not written in time, some colony backups may be outdated.");
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Write a compound to a temporary file and move it over the destination, so a crash never leaves a partially written file behind.
+     *
+     * @param file     the destination file.
+     * @param compound the compound to write.
+     */
+    private static void writeNow(final File file, final CompoundNBT compound)
+    {
+        try
+        {
+            file.getParentFile().mkdirs();
+            final File tmp = new File(file.getParentFile(), file.getName() + TMP_SUFFIX);
+            CompressedStreamTools.write(compound, tmp);
+            moveReplacing(tmp, file);
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when saving " + file.getName(), exception);
+        }
+    }
+
+    /**
+     * Move a temporary file over its destination, atomically where the file system supports it.
+     *
+     * @param tmp    the temporary file.
+     * @param target the destination.
+     * @throws IOException if moving failed.
+     */
+    static void moveReplacing(final File tmp, final File target) throws IOException
+    {
+        try
+        {
+            Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (final AtomicMoveNotSupportedException e)
+        {
+            Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Get the I/O executor, creating it if needed.
+     *
+     * @return the executor.
+     */
+    private static synchronized ExecutorService getExecutor()
+    {
+        if (executor == null)
+        {
+            executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Minecolonies File Writer")
+                                                           .setDaemon(true)
+                                                           .setUncaughtExceptionHandler((thread, throwable) -> Log.getLogger()
+                                                                                                                 .error("Minecolonies File Writer errored! ", throwable))
+                                                           .build());
+        }
+        return executor;
+    }
+}